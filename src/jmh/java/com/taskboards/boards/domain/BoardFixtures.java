@@ -0,0 +1,29 @@
+package com.taskboards.boards.domain;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.bson.types.ObjectId;
+
+public final class BoardFixtures {
+
+	private BoardFixtures() {
+	}
+
+	public static Board board(int index) {
+		Board board = new Board("Team " + index + " Kanban", "Board number " + index + ", kept for the benchmarks");
+		board.setId(new ObjectId().toHexString());
+		board.setVersion((long) index % 7);
+		board.setLastModified(new Date());
+		return board;
+	}
+
+	public static List<Board> boards(int size) {
+		List<Board> boards = new ArrayList<>(size);
+		for (int index = 0; index < size; index++) {
+			boards.add(board(index));
+		}
+		return boards;
+	}
+}
@@ -0,0 +1,98 @@
+package com.taskboards.boards.domain;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import com.taskboards.boards.BoardsApplication;
+
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BoardRepositoryBenchmark {
+
+	@Param({ "1000", "10000" })
+	int size;
+
+	@Param({ "true", "false" })
+	boolean cache;
+
+	private MongoServer server;
+
+	private ConfigurableApplicationContext context;
+
+	private BoardRepository repository;
+
+	private String boardId;
+
+	@Setup
+	public void startMongo() {
+		server = new MongoServer(new MemoryBackend());
+		InetSocketAddress address = server.bind();
+		context = new SpringApplicationBuilder(BoardsApplication.class).web(false).run(
+				"--spring.cloud.config.enabled=false",
+				"--eureka.client.enabled=false",
+				"--spring.data.mongodb.host=" + address.getHostString(),
+				"--spring.data.mongodb.port=" + address.getPort(),
+				"--spring.data.mongodb.database=boards-benchmark",
+				"--spring.cache.type=" + (cache ? "caffeine" : "none"));
+		repository = context.getBean(BoardRepository.class);
+		List<Board> boards = BoardFixtures.boards(size);
+		context.getBean(MongoTemplate.class).insertAll(boards);
+		boardId = boards.get(size / 2).getId();
+	}
+
+	@TearDown
+	public void stopMongo() {
+		context.close();
+		server.shutdownNow();
+	}
+
+	@Benchmark
+	public Board findOne() {
+		return repository.findOne(boardId);
+	}
+
+	@Benchmark
+	public List<Board> findByNameStartsWithIgnoreCase() {
+		return repository.findByNameStartsWithIgnoreCase("team 12");
+	}
+
+	@Benchmark
+	public BoardPage findFirstPageById() {
+		return repository.findPage(new BoardPageRequest(BoardSortProperty.ID, Direction.ASC, null, null, 20));
+	}
+
+	@Benchmark
+	public BoardPage findFirstPageByName() {
+		return repository.findPage(new BoardPageRequest(BoardSortProperty.NAME, Direction.ASC, null, null, 20));
+	}
+
+	@Benchmark
+	public BoardCollectionVersion findCollectionVersion() {
+		return repository.findCollectionVersion();
+	}
+}
@@ -0,0 +1,35 @@
+package com.taskboards.boards.web;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class BoardPayloadSizes {
+
+	public static void main(String[] args) throws JsonProcessingException {
+		Map<String, ObjectMapper> mappers = new LinkedHashMap<>();
+		mappers.put("json", Jackson2ObjectMapperBuilder.json().build());
+		mappers.put("xml", Jackson2ObjectMapperBuilder.xml().build());
+		mappers.put("cbor", JacksonBinaryHttpMessageConverter.cbor(Jackson2ObjectMapperBuilder.json()).getObjectMapper());
+		mappers.put("smile", JacksonBinaryHttpMessageConverter.smile(Jackson2ObjectMapperBuilder.json()).getObjectMapper());
+		int[] sizes = args.length == 0 ? new int[] { 10, 1000, 100000 } : new int[args.length];
+		for (int index = 0; index < args.length; index++) {
+			sizes[index] = Integer.parseInt(args[index]);
+		}
+
+		for (int size : sizes) {
+			List<BoardResource> resources = BoardSerializationBenchmark.resources(size);
+			StringBuilder line = new StringBuilder().append(size).append(" boards:");
+			for (Map.Entry<String, ObjectMapper> mapper : mappers.entrySet()) {
+				line.append(' ').append(mapper.getKey()).append('=').append(mapper.getValue().writeValueAsBytes(resources).length)
+						.append(" bytes");
+			}
+			System.out.println(line);
+		}
+	}
+}
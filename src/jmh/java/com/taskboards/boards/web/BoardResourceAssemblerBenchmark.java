@@ -0,0 +1,79 @@
+package com.taskboards.boards.web;
+
+import static org.springframework.hateoas.mvc.ControllerLinkBuilder.linkTo;
+import static org.springframework.hateoas.mvc.ControllerLinkBuilder.methodOn;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.taskboards.boards.domain.Board;
+import com.taskboards.boards.domain.BoardFixtures;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardResourceAssemblerBenchmark {
+
+	private final BoardResourceAssembler assembler = new BoardResourceAssembler();
+
+	private Board board;
+
+	@Setup
+	public void bindRequest() {
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest("GET", "/boards")));
+		board = BoardFixtures.board(0);
+	}
+
+	@TearDown
+	public void resetRequest() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Benchmark
+	public BoardResource toResource() {
+		return assembler.toResource(board);
+	}
+
+	@Benchmark
+	public BoardResource toResourceWithControllerLinkBuilder() {
+		return new BoardResource(board, linkTo(methodOn(BoardRestController.class).get(board.getId(), null, null)).withSelfRel());
+	}
+
+	@Benchmark
+	public List<BoardResource> toResources(Boards boards) {
+		return assembler.toResources(boards.boards);
+	}
+
+	@State(Scope.Benchmark)
+	public static class Boards {
+
+		@Param({ "10", "1000", "100000" })
+		int size;
+
+		List<Board> boards;
+
+		@Setup
+		public void createBoards() {
+			boards = BoardFixtures.boards(size);
+		}
+	}
+}
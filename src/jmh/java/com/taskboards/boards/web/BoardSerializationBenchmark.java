@@ -0,0 +1,110 @@
+package com.taskboards.boards.web;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskboards.boards.domain.Board;
+import com.taskboards.boards.domain.BoardFixtures;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BoardSerializationBenchmark {
+
+	private static final TypeReference<List<Board>> BOARDS = new TypeReference<List<Board>>() {
+	};
+
+	@Param({ "10", "1000", "100000" })
+	int size;
+
+	private final ObjectMapper jsonMapper = Jackson2ObjectMapperBuilder.json().build();
+
+	private final ObjectMapper xmlMapper = Jackson2ObjectMapperBuilder.xml().build();
+
+	private final ObjectMapper cborMapper = JacksonBinaryHttpMessageConverter.cbor(Jackson2ObjectMapperBuilder.json()).getObjectMapper();
+
+	private final ObjectMapper smileMapper = JacksonBinaryHttpMessageConverter.smile(Jackson2ObjectMapperBuilder.json()).getObjectMapper();
+
+	private List<BoardResource> resources;
+
+	private byte[] jsonPayload;
+
+	private byte[] cborPayload;
+
+	private byte[] smilePayload;
+
+	@Setup
+	public void assembleResources() throws JsonProcessingException {
+		resources = resources(size);
+		jsonPayload = json();
+		cborPayload = cbor();
+		smilePayload = smile();
+	}
+
+	@Benchmark
+	public byte[] json() throws JsonProcessingException {
+		return jsonMapper.writeValueAsBytes(resources);
+	}
+
+	@Benchmark
+	public byte[] xml() throws JsonProcessingException {
+		return xmlMapper.writeValueAsBytes(resources);
+	}
+
+	@Benchmark
+	public byte[] cbor() throws JsonProcessingException {
+		return cborMapper.writeValueAsBytes(resources);
+	}
+
+	@Benchmark
+	public byte[] smile() throws JsonProcessingException {
+		return smileMapper.writeValueAsBytes(resources);
+	}
+
+	@Benchmark
+	public List<Board> readJson() throws IOException {
+		return jsonMapper.readValue(jsonPayload, BOARDS);
+	}
+
+	@Benchmark
+	public List<Board> readCbor() throws IOException {
+		return cborMapper.readValue(cborPayload, BOARDS);
+	}
+
+	@Benchmark
+	public List<Board> readSmile() throws IOException {
+		return smileMapper.readValue(smilePayload, BOARDS);
+	}
+
+	static List<BoardResource> resources(int size) {
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest("GET", "/boards")));
+		try {
+			return new BoardResourceAssembler().toResources(BoardFixtures.boards(size));
+		} finally {
+			RequestContextHolder.resetRequestAttributes();
+		}
+	}
+}
@@ -0,0 +1,114 @@
+package com.taskboards.boards.web;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.zip.GZIPInputStream;
+
+import org.springframework.util.StreamUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+final class BoardLoadClient {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final String baseUrl;
+
+	private final List<String> seededIds;
+
+	private final Queue<String> deletableIds;
+
+	BoardLoadClient(String baseUrl, List<String> seededIds, List<String> deletableIds) {
+		this.baseUrl = baseUrl;
+		this.seededIds = seededIds;
+		this.deletableIds = new ConcurrentLinkedQueue<>(deletableIds);
+	}
+
+	static String seedName(int index) {
+		return "Team " + index + " Kanban";
+	}
+
+	static String deletableName(int index) {
+		return "Deletable board " + index;
+	}
+
+	int seededIndex() {
+		return ThreadLocalRandom.current().nextInt(seededIds.size());
+	}
+
+	String seededId(int index) {
+		return seededIds.get(index);
+	}
+
+	String deletableId() throws IOException {
+		String id = deletableIds.poll();
+		if (id == null) {
+			throw new IOException("No board left to delete");
+		}
+		return id;
+	}
+
+	Response create() throws IOException {
+		Response response = send("POST", "/boards", body("Load board " + ThreadLocalRandom.current().nextInt()));
+		if (response.isSuccessful()) {
+			deletableIds.add(idOf(response));
+		}
+		return response;
+	}
+
+	private String idOf(Response response) throws IOException {
+		String href = objectMapper.readTree(response.body).path("_links").path("self").path("href").asText();
+		return href.substring(href.lastIndexOf('/') + 1);
+	}
+
+	String body(String name) {
+		return "{\"name\": \"" + name + "\", \"description\": \"Written by the load test\"}";
+	}
+
+	Response send(String method, String path, String body) throws IOException {
+		HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl + path).openConnection();
+		connection.setRequestMethod(method);
+		connection.setRequestProperty("Accept", "application/json");
+		connection.setRequestProperty("Accept-Encoding", "gzip");
+		if (body != null) {
+			connection.setDoOutput(true);
+			connection.setRequestProperty("Content-Type", "application/json");
+			try (OutputStream output = connection.getOutputStream()) {
+				output.write(body.getBytes(StandardCharsets.UTF_8));
+			}
+		}
+		int status = connection.getResponseCode();
+		InputStream input = status < 400 ? connection.getInputStream() : connection.getErrorStream();
+		byte[] content = new byte[0];
+		if (input != null) {
+			try (InputStream stream = "gzip".equals(connection.getContentEncoding()) ? new GZIPInputStream(input) : input) {
+				content = StreamUtils.copyToByteArray(stream);
+			}
+		}
+		return new Response(status, content);
+	}
+
+	static final class Response {
+
+		final int status;
+
+		final byte[] body;
+
+		Response(int status, byte[] body) {
+			this.status = status;
+			this.body = body;
+		}
+
+		boolean isSuccessful() {
+			return status >= 200 && status < 300;
+		}
+	}
+}
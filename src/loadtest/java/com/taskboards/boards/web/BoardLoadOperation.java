@@ -0,0 +1,48 @@
+package com.taskboards.boards.web;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+enum BoardLoadOperation {
+
+	GET {
+		@Override
+		int send(BoardLoadClient client) throws IOException {
+			return client.send("GET", "/boards/" + client.seededId(client.seededIndex()), null).status;
+		}
+	},
+	LIST {
+		@Override
+		int send(BoardLoadClient client) throws IOException {
+			String sort = ThreadLocalRandom.current().nextBoolean() ? "id" : "name";
+			return client.send("GET", "/boards?size=20&sort=" + sort, null).status;
+		}
+	},
+	SEARCH {
+		@Override
+		int send(BoardLoadClient client) throws IOException {
+			return client.send("GET", "/boards/name=team%20" + ThreadLocalRandom.current().nextInt(100), null).status;
+		}
+	},
+	CREATE {
+		@Override
+		int send(BoardLoadClient client) throws IOException {
+			return client.create().status;
+		}
+	},
+	UPDATE {
+		@Override
+		int send(BoardLoadClient client) throws IOException {
+			int index = client.seededIndex();
+			return client.send("PUT", "/boards/" + client.seededId(index), client.body(BoardLoadClient.seedName(index))).status;
+		}
+	},
+	DELETE {
+		@Override
+		int send(BoardLoadClient client) throws IOException {
+			return client.send("DELETE", "/boards/" + client.deletableId(), null).status;
+		}
+	};
+
+	abstract int send(BoardLoadClient client) throws IOException;
+}
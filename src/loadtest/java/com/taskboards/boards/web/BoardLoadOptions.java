@@ -0,0 +1,96 @@
+package com.taskboards.boards.web;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.Getter;
+
+@Getter
+final class BoardLoadOptions {
+
+	private static final String DEFAULT_MIX = "get=50,list=15,search=15,create=10,update=5,delete=5";
+
+	private int boards = 10000;
+
+	private int clients = 32;
+
+	private int rate = 1000;
+
+	private int warmupSeconds = 10;
+
+	private int durationSeconds = 30;
+
+	private Map<BoardLoadOperation, Integer> mix = parseMix(DEFAULT_MIX);
+
+	private String output = "target/loadtest-result.json";
+
+	private final List<String> applicationArgs = new ArrayList<>();
+
+	private BoardLoadOptions() {
+	}
+
+	static BoardLoadOptions parse(String... args) {
+		BoardLoadOptions options = new BoardLoadOptions();
+		for (String arg : args) {
+			String option = arg.startsWith("--") ? arg.substring(2) : arg;
+			int separator = option.indexOf('=');
+			if (separator < 0) {
+				throw new IllegalArgumentException("Expected name=value but got: " + arg);
+			}
+			String name = option.substring(0, separator);
+			String value = option.substring(separator + 1);
+			switch (name) {
+			case "boards":
+				options.boards = Integer.parseInt(value);
+				break;
+			case "clients":
+				options.clients = Integer.parseInt(value);
+				break;
+			case "rate":
+				options.rate = Integer.parseInt(value);
+				if (options.rate <= 0) {
+					throw new IllegalArgumentException("The rate must be positive but got: " + value);
+				}
+				break;
+			case "warmup":
+				options.warmupSeconds = Integer.parseInt(value);
+				break;
+			case "duration":
+				options.durationSeconds = Integer.parseInt(value);
+				break;
+			case "mix":
+				options.mix = parseMix(value);
+				break;
+			case "output":
+				options.output = value;
+				break;
+			default:
+				options.applicationArgs.add("--" + option);
+			}
+		}
+		return options;
+	}
+
+	int getDeletions() {
+		int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+		long requests = (long) rate * (warmupSeconds + durationSeconds);
+		return Math.toIntExact((requests * mix.getOrDefault(BoardLoadOperation.DELETE, 0) + total - 1) / total);
+	}
+
+	private static Map<BoardLoadOperation, Integer> parseMix(String mix) {
+		Map<BoardLoadOperation, Integer> weights = new EnumMap<>(BoardLoadOperation.class);
+		for (String entry : mix.split(",")) {
+			String[] weight = entry.trim().split("=");
+			if (weight.length != 2) {
+				throw new IllegalArgumentException("Expected operation=weight but got: " + entry);
+			}
+			weights.put(BoardLoadOperation.valueOf(weight[0].trim().toUpperCase()), Integer.parseInt(weight[1].trim()));
+		}
+		if (weights.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+			throw new IllegalArgumentException("The operation mix has no positive weight: " + mix);
+		}
+		return weights;
+	}
+}
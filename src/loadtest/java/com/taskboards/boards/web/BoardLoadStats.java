@@ -0,0 +1,76 @@
+package com.taskboards.boards.web;
+
+import java.io.PrintStream;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.HdrHistogram.Histogram;
+
+final class BoardLoadStats {
+
+	static final int IO_ERROR = -1;
+
+	private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+	private final Map<BoardLoadOperation, Histogram> latencies = new EnumMap<>(BoardLoadOperation.class);
+
+	private final Map<BoardLoadOperation, Map<Integer, Long>> statuses = new EnumMap<>(BoardLoadOperation.class);
+
+	void record(BoardLoadOperation operation, int status, long elapsedNanos) {
+		long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS);
+		latencies.computeIfAbsent(operation, key -> newHistogram()).recordValue(micros);
+		statuses.computeIfAbsent(operation, key -> new TreeMap<>()).merge(status, 1L, Long::sum);
+	}
+
+	void add(BoardLoadStats other) {
+		other.latencies.forEach((operation, histogram) -> latencies.computeIfAbsent(operation, key -> newHistogram()).add(histogram));
+		other.statuses.forEach((operation, counts) -> counts.forEach(
+				(status, count) -> statuses.computeIfAbsent(operation, key -> new TreeMap<>()).merge(status, count, Long::sum)));
+	}
+
+	List<Map<String, Object>> summarize(double seconds) {
+		return latencies.entrySet().stream().map(entry -> {
+			Histogram histogram = entry.getValue();
+			Map<Integer, Long> counts = statuses.get(entry.getKey());
+			Map<String, Object> summary = new LinkedHashMap<>();
+			summary.put("operation", entry.getKey().name().toLowerCase());
+			summary.put("requests", histogram.getTotalCount());
+			summary.put("errors", counts.entrySet().stream().filter(status -> isError(status.getKey())).mapToLong(Map.Entry::getValue).sum());
+			summary.put("statuses", counts);
+			summary.put("throughput", histogram.getTotalCount() / seconds);
+			summary.put("p50Millis", millis(histogram.getValueAtPercentile(50)));
+			summary.put("p90Millis", millis(histogram.getValueAtPercentile(90)));
+			summary.put("p99Millis", millis(histogram.getValueAtPercentile(99)));
+			summary.put("p999Millis", millis(histogram.getValueAtPercentile(99.9)));
+			summary.put("maxMillis", millis(histogram.getMaxValue()));
+			return summary;
+		}).collect(Collectors.toList());
+	}
+
+	static void print(List<Map<String, Object>> summaries, PrintStream out) {
+		out.printf("%n%-8s %10s %8s %10s %9s %9s %9s %9s %9s%n", "op", "requests", "errors", "req/s", "p50 ms", "p90 ms",
+				"p99 ms", "p99.9 ms", "max ms");
+		for (Map<String, Object> summary : summaries) {
+			out.printf("%-8s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n", summary.get("operation"), summary.get("requests"),
+					summary.get("errors"), summary.get("throughput"), summary.get("p50Millis"), summary.get("p90Millis"),
+					summary.get("p99Millis"), summary.get("p999Millis"), summary.get("maxMillis"));
+		}
+	}
+
+	private static boolean isError(int status) {
+		return status == IO_ERROR || status >= 400;
+	}
+
+	private static double millis(long micros) {
+		return micros / 1000.0;
+	}
+
+	private static Histogram newHistogram() {
+		return new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+	}
+}
@@ -0,0 +1,154 @@
+package com.taskboards.boards.web;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntFunction;
+
+import org.bson.types.ObjectId;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskboards.boards.BoardsApplication;
+import com.taskboards.boards.domain.Board;
+import com.taskboards.boards.domain.BoardRepository;
+
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+
+public final class BoardLoadTest {
+
+	private static final int SEED_CHUNK_SIZE = 1000;
+
+	private BoardLoadTest() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		BoardLoadOptions options = BoardLoadOptions.parse(args);
+		System.setProperty("http.maxConnections", String.valueOf(options.getClients()));
+		MongoServer server = new MongoServer(new MemoryBackend());
+		InetSocketAddress address = server.bind();
+		try (ConfigurableApplicationContext context = start(address, options)) {
+			BoardRepository repository = context.getBean(BoardRepository.class);
+			List<String> ids = seed(repository, options.getBoards(), BoardLoadClient::seedName);
+			List<String> deletableIds = seed(repository, options.getDeletions(), BoardLoadClient::deletableName);
+			String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+			List<Map<String, Object>> summaries = run(new BoardLoadClient(baseUrl, ids, deletableIds), options);
+			BoardLoadStats.print(summaries, System.out);
+			write(options, summaries);
+		} finally {
+			server.shutdownNow();
+		}
+	}
+
+	private static ConfigurableApplicationContext start(InetSocketAddress address, BoardLoadOptions options) {
+		List<String> args = new ArrayList<>();
+		args.add("--server.port=0");
+		args.add("--spring.cloud.config.enabled=false");
+		args.add("--eureka.client.enabled=false");
+		args.add("--spring.data.mongodb.host=" + address.getHostString());
+		args.add("--spring.data.mongodb.port=" + address.getPort());
+		args.add("--spring.data.mongodb.database=boards-loadtest");
+		args.addAll(options.getApplicationArgs());
+		return new SpringApplicationBuilder(BoardsApplication.class).run(args.toArray(new String[args.size()]));
+	}
+
+	private static List<String> seed(BoardRepository repository, int size, IntFunction<String> names) {
+		List<String> ids = new ArrayList<>(size);
+		List<Board> chunk = new ArrayList<>(SEED_CHUNK_SIZE);
+		for (int index = 0; index < size; index++) {
+			Board board = new Board(names.apply(index), "Board number " + index + ", seeded for the load test");
+			board.setId(new ObjectId().toHexString());
+			ids.add(board.getId());
+			chunk.add(board);
+			if (chunk.size() == SEED_CHUNK_SIZE || index == size - 1) {
+				repository.importBoards(chunk);
+				chunk.clear();
+			}
+		}
+		return ids;
+	}
+
+	private static List<Map<String, Object>> run(BoardLoadClient client, BoardLoadOptions options) throws Exception {
+		BoardLoadOperation[] operations = weighted(options.getMix());
+		long intervalNanos = TimeUnit.SECONDS.toNanos(options.getClients()) / options.getRate();
+		long startFrom = System.nanoTime();
+		long measureFrom = startFrom + TimeUnit.SECONDS.toNanos(options.getWarmupSeconds());
+		long measureUntil = measureFrom + TimeUnit.SECONDS.toNanos(options.getDurationSeconds());
+		ExecutorService executor = Executors.newFixedThreadPool(options.getClients());
+		try {
+			List<Future<BoardLoadStats>> workers = new ArrayList<>();
+			for (int worker = 0; worker < options.getClients(); worker++) {
+				long firstStart = startFrom + intervalNanos * worker / options.getClients();
+				workers.add(executor.submit(() -> drive(client, operations, firstStart, intervalNanos, measureFrom, measureUntil)));
+			}
+			BoardLoadStats stats = new BoardLoadStats();
+			for (Future<BoardLoadStats> worker : workers) {
+				stats.add(worker.get());
+			}
+			return stats.summarize(options.getDurationSeconds());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static BoardLoadStats drive(BoardLoadClient client, BoardLoadOperation[] operations, long firstStart, long intervalNanos,
+			long measureFrom, long measureUntil) {
+		BoardLoadStats stats = new BoardLoadStats();
+		for (long intendedStart = firstStart; intendedStart < measureUntil; intendedStart += intervalNanos) {
+			long wait;
+			while ((wait = intendedStart - System.nanoTime()) > 0) {
+				LockSupport.parkNanos(wait);
+			}
+			BoardLoadOperation operation = operations[ThreadLocalRandom.current().nextInt(operations.length)];
+			int status;
+			try {
+				status = operation.send(client);
+			} catch (IOException e) {
+				status = BoardLoadStats.IO_ERROR;
+			}
+			if (intendedStart >= measureFrom) {
+				stats.record(operation, status, System.nanoTime() - intendedStart);
+			}
+		}
+		return stats;
+	}
+
+	private static BoardLoadOperation[] weighted(Map<BoardLoadOperation, Integer> mix) {
+		List<BoardLoadOperation> operations = new ArrayList<>();
+		mix.forEach((operation, weight) -> {
+			for (int index = 0; index < weight; index++) {
+				operations.add(operation);
+			}
+		});
+		return operations.toArray(new BoardLoadOperation[operations.size()]);
+	}
+
+	private static void write(BoardLoadOptions options, List<Map<String, Object>> summaries) throws IOException {
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("boards", options.getBoards());
+		result.put("clients", options.getClients());
+		result.put("rate", options.getRate());
+		result.put("warmupSeconds", options.getWarmupSeconds());
+		result.put("durationSeconds", options.getDurationSeconds());
+		result.put("mix", options.getMix());
+		result.put("applicationArgs", options.getApplicationArgs());
+		result.put("operations", summaries);
+		File output = new File(options.getOutput());
+		output.getAbsoluteFile().getParentFile().mkdirs();
+		new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output, result);
+		System.out.printf("%nWrote %s%n", output);
+	}
+}
@@ -2,10 +2,16 @@ package com.taskboards.boards;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cloud.netflix.eureka.EnableEurekaClient;
+import org.springframework.data.mongodb.config.EnableMongoAuditing;
 
 @EnableEurekaClient
 @SpringBootApplication
+@EnableCaching
+@EnableMongoAuditing
+@EnableConfigurationProperties(BoardsProperties.class)
 public class BoardsApplication {
 	
 	public static void main(String[] args) {
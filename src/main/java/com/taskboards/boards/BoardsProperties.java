@@ -0,0 +1,166 @@
+package com.taskboards.boards;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "boards")
+public class BoardsProperties {
+
+	private Page page = new Page();
+
+	private Batch batch = new Batch();
+
+	private Api api = new Api();
+
+	private Profiling profiling = new Profiling();
+
+	private Indexes indexes = new Indexes();
+
+	private WriteBehind writeBehind = new WriteBehind();
+
+	private Ui ui = new Ui();
+
+	private Async async = new Async();
+
+	private Admission admission = new Admission();
+
+	@Getter
+	@Setter
+	public static class Page {
+
+		private int defaultSize = 20;
+
+		private int maxSize = 100;
+
+	}
+
+	@Getter
+	@Setter
+	public static class Batch {
+
+		private int chunkSize = 1000;
+
+		private int importParallelism = 2;
+
+	}
+
+	@Getter
+	@Setter
+	public static class Api {
+
+		private String mode = "blocking";
+
+		private int streamBatchSize = 100;
+
+		private int streamThreads = 16;
+
+		private int streamQueueCapacity = 64;
+
+		private long streamTimeoutMillis = 600_000;
+
+		private boolean acceptHeaderNegotiation = false;
+
+	}
+
+	@Getter
+	@Setter
+	public static class Profiling {
+
+		private long slowCommandThresholdMillis = 100;
+
+		private int slowCommandCapacity = 50;
+
+		private double slowCommandLogSampleRate = 1.0;
+
+	}
+
+	@Getter
+	@Setter
+	public static class Indexes {
+
+		private boolean createOnStartup = true;
+
+		private boolean failOnMissing = false;
+
+	}
+
+	@Getter
+	@Setter
+	public static class WriteBehind {
+
+		private boolean enabled = false;
+
+		private int queueCapacity = 10000;
+
+		private int batchSize = 500;
+
+		private long flushIntervalMillis = 100;
+
+	}
+
+	@Getter
+	@Setter
+	public static class Ui {
+
+		private int filterDebounceMillis = 300;
+
+		private int prefixCacheSize = 500;
+
+	}
+
+	@Getter
+	@Setter
+	public static class Async {
+
+		private int threads = 32;
+
+		private int queueCapacity = 256;
+
+		private boolean virtualThreads = false;
+
+		private int defaultEndpointConcurrency = 64;
+
+		private Map<String, Integer> endpointConcurrency = new HashMap<>();
+
+	}
+
+	@Getter
+	@Setter
+	public static class Admission {
+
+		private boolean enabled = true;
+
+		private double backoffRatio = 0.9;
+
+		private Limit reads = new Limit(64, 8, 512, 250);
+
+		private Limit writes = new Limit(16, 4, 128, 500);
+
+		private Limit bulk = new Limit(4, 1, 16, 600_000);
+
+		@Getter
+		@Setter
+		@NoArgsConstructor
+		@AllArgsConstructor
+		public static class Limit {
+
+			private int initialLimit;
+
+			private int minLimit;
+
+			private int maxLimit;
+
+			private long latencyThresholdMillis;
+
+		}
+	}
+}
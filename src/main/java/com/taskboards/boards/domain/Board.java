@@ -1,8 +1,17 @@
 package com.taskboards.boards.domain;
 
+import java.text.Normalizer;
+import java.util.Date;
+import java.util.Locale;
+
 import org.hibernate.validator.constraints.NotBlank;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Version;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -15,22 +24,52 @@ public class Board {
 	@Setter
 	private String id;
 
-	@Setter
 	@NotBlank
 	private String name;
+
+	@JsonIgnore
+	private String normalizedName;
 	
 	@Setter
 	private String description;
+
+	@Version
+	@Setter
+	private Long version;
+
+	@LastModifiedDate
+	@Setter(AccessLevel.PACKAGE)
+	private Date lastModified;
 	
 	public Board(String name, String description) {
-		this.name = name;
+		setName(name);
 		this.description = description;
 	}	
 	
+	public Board(Board board) {
+		this.id = board.id;
+		setName(board.name);
+		this.description = board.description;
+		this.version = board.version;
+		this.lastModified = board.lastModified;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+		this.normalizedName = normalizeName(name);
+	}
+
 	public boolean isPersisted() {
 		return getId() != null;
 	}
 	
+	public static String normalizeName(String name) {
+		if (name == null) {
+			return null;
+		}
+		return Normalizer.normalize(name, Normalizer.Form.NFKC).toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
+	}
+
 	@Override
 	public String toString() {
 		return String.format("Board[id=%s, name='%s', description='%s']", id,
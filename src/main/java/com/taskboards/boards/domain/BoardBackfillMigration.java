@@ -0,0 +1,78 @@
+package com.taskboards.boards.domain;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+import static org.springframework.data.mongodb.core.query.Update.update;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.stereotype.Component;
+
+@Component
+public class BoardBackfillMigration implements ApplicationRunner {
+
+	private static final Logger log = LoggerFactory.getLogger(BoardBackfillMigration.class);
+
+	private static final int BATCH_SIZE = 500;
+
+	private final MongoOperations mongoOperations;
+
+	@Autowired
+	public BoardBackfillMigration(MongoOperations mongoOperations) {
+		this.mongoOperations = mongoOperations;
+	}
+
+	@Override
+	public void run(ApplicationArguments args) {
+		backfillNormalizedNames();
+		backfillVersions();
+	}
+
+	int backfillNormalizedNames() {
+		Query missingNormalizedName = new Query(where("normalizedName").exists(false).and("name").exists(true));
+		missingNormalizedName.fields().include("name");
+
+		int backfilled = 0;
+		try (CloseableIterator<Board> boards = mongoOperations.stream(missingNormalizedName, Board.class)) {
+			BulkOperations batch = null;
+			int pending = 0;
+			while (boards.hasNext()) {
+				Board board = boards.next();
+				if (batch == null) {
+					batch = mongoOperations.bulkOps(BulkMode.UNORDERED, Board.class);
+				}
+				batch.updateOne(query(where("id").is(board.getId())), update("normalizedName", Board.normalizeName(board.getName())));
+				if (++pending == BATCH_SIZE) {
+					batch.execute();
+					backfilled += pending;
+					batch = null;
+					pending = 0;
+				}
+			}
+			if (batch != null) {
+				batch.execute();
+				backfilled += pending;
+			}
+		}
+		if (backfilled > 0) {
+			log.info("Backfilled the normalized name of {} boards", backfilled);
+		}
+		return backfilled;
+	}
+
+	int backfillVersions() {
+		int backfilled = mongoOperations.updateMulti(new Query(where("version").exists(false)), update("version", 0L), Board.class).getN();
+		if (backfilled > 0) {
+			log.info("Backfilled the version of {} boards", backfilled);
+		}
+		return backfilled;
+	}
+}
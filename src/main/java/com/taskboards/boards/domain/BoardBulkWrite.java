@@ -0,0 +1,221 @@
+package com.taskboards.boards.domain;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.mongodb.BulkWriteError;
+import com.mongodb.BulkWriteResult;
+import com.taskboards.boards.domain.BoardOperationResult.Outcome;
+
+class BoardBulkWrite {
+
+	private final MongoOperations mongoOperations;
+
+	private final boolean ordered;
+
+	private final BulkOperations bulk;
+
+	private final List<BoardOperation> queuedOperations = new ArrayList<>();
+
+	private final List<BoardOperationResult> queued = new ArrayList<>();
+
+	private final List<BoardOperationResult> results = new ArrayList<>();
+
+	private Map<String, Long> currentVersions;
+
+	BoardBulkWrite(MongoOperations mongoOperations, boolean ordered) {
+		this.mongoOperations = mongoOperations;
+		this.ordered = ordered;
+		this.bulk = mongoOperations.bulkOps(ordered ? BulkMode.ORDERED : BulkMode.UNORDERED, Board.class);
+	}
+
+	List<BoardOperationResult> execute(List<BoardOperation> operations) {
+		currentVersions = findCurrentVersions(operations);
+		boolean stopped = false;
+		for (BoardOperation operation : operations) {
+			if (stopped) {
+				results.add(BoardOperationResult.failed(operation, Outcome.SKIPPED, "A previous operation of the ordered batch failed"));
+				continue;
+			}
+			BoardOperationResult rejection = queue(operation);
+			if (rejection != null) {
+				results.add(rejection);
+				stopped = ordered;
+			}
+		}
+		flush();
+		results.sort((first, second) -> Integer.compare(first.getIndex(), second.getIndex()));
+		return results;
+	}
+
+	private BoardOperationResult queue(BoardOperation operation) {
+		switch (operation.getOp()) {
+		case CREATE:
+			return queueCreate(operation);
+		case UPDATE:
+			return queueUpdate(operation);
+		case DELETE:
+			return queueDelete(operation);
+		default:
+			return BoardOperationResult.failed(operation, Outcome.INVALID, "Unknown operation");
+		}
+	}
+
+	private BoardOperationResult queueCreate(BoardOperation operation) {
+		Board board = new Board(operation.getBoard());
+		board.setId(new ObjectId().toHexString());
+		board.setVersion(0L);
+		board.setLastModified(new Date());
+		bulk.insert(board);
+		currentVersions.put(board.getId(), board.getVersion());
+		enqueue(operation, BoardOperationResult.succeeded(operation, board.getId(), board.getVersion(), Outcome.CREATED));
+		return null;
+	}
+
+	private BoardOperationResult queueUpdate(BoardOperation operation) {
+		BoardOperationResult rejection = checkTarget(operation);
+		if (rejection != null) {
+			return rejection;
+		}
+		Board board = operation.getBoard();
+		Long version = currentVersions.get(operation.getId());
+		bulk.updateOne(targetQuery(operation.getId(), version), new Update()
+				.set("name", board.getName())
+				.set("normalizedName", board.getNormalizedName())
+				.set("description", board.getDescription())
+				.set("lastModified", new Date())
+				.inc("version", 1));
+		Long updatedVersion = version == null ? 1L : version + 1;
+		currentVersions.put(operation.getId(), updatedVersion);
+		enqueue(operation, BoardOperationResult.succeeded(operation, operation.getId(), updatedVersion, Outcome.UPDATED));
+		return null;
+	}
+
+	private BoardOperationResult queueDelete(BoardOperation operation) {
+		BoardOperationResult rejection = checkTarget(operation);
+		if (rejection != null) {
+			return rejection;
+		}
+		bulk.remove(targetQuery(operation.getId(), currentVersions.get(operation.getId())));
+		currentVersions.remove(operation.getId());
+		enqueue(operation, BoardOperationResult.succeeded(operation, operation.getId(), null, Outcome.DELETED));
+		return null;
+	}
+
+	private BoardOperationResult checkTarget(BoardOperation operation) {
+		if (!currentVersions.containsKey(operation.getId())) {
+			return BoardOperationResult.failed(operation, Outcome.NOT_FOUND, "Board " + operation.getId() + " does not exist");
+		}
+		Long expectedVersion = operation.getExpectedVersion();
+		Long currentVersion = currentVersions.get(operation.getId());
+		if (expectedVersion != null && !expectedVersion.equals(currentVersion)) {
+			return BoardOperationResult.failed(operation, Outcome.CONFLICT,
+					String.format("Board %s is at version %d, not %d", operation.getId(), currentVersion, expectedVersion));
+		}
+		return null;
+	}
+
+	private void enqueue(BoardOperation operation, BoardOperationResult expectedResult) {
+		queuedOperations.add(operation);
+		queued.add(expectedResult);
+	}
+
+	private void flush() {
+		if (queued.isEmpty()) {
+			return;
+		}
+		try {
+			BulkWriteResult written = bulk.execute();
+			if (written.getMatchedCount() + written.getRemovedCount() < countQueued(Outcome.UPDATED, Outcome.DELETED)) {
+				reconcileConcurrentChanges();
+			}
+			results.addAll(queued);
+		} catch (BulkOperationException e) {
+			Map<Integer, BulkWriteError> errors = new HashMap<>();
+			for (BulkWriteError error : e.getErrors()) {
+				errors.put(error.getIndex(), error);
+			}
+			int lastAttempted = ordered ? e.getErrors().get(0).getIndex() : queued.size() - 1;
+			for (int position = 0; position < queued.size(); position++) {
+				results.add(resultAfterFailure(position, errors.get(position), position > lastAttempted));
+			}
+		}
+	}
+
+	private int countQueued(Outcome... outcomes) {
+		int count = 0;
+		for (BoardOperationResult result : queued) {
+			for (Outcome outcome : outcomes) {
+				if (result.getOutcome() == outcome) {
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+
+	private void reconcileConcurrentChanges() {
+		Map<String, Long> writtenVersions = findCurrentVersions(queuedOperations);
+		for (int position = 0; position < queued.size(); position++) {
+			BoardOperationResult result = queued.get(position);
+			boolean applied = result.getOutcome() == Outcome.DELETED ? !writtenVersions.containsKey(result.getId())
+					: result.getOutcome() != Outcome.UPDATED || result.getVersion().equals(writtenVersions.get(result.getId()));
+			if (!applied) {
+				queued.set(position, BoardOperationResult.failed(queuedOperations.get(position), Outcome.CONFLICT,
+						"Board " + result.getId() + " was changed concurrently"));
+			}
+		}
+	}
+
+	private BoardOperationResult resultAfterFailure(int position, BulkWriteError error, boolean skipped) {
+		if (error != null) {
+			return BoardOperationResult.failed(queuedOperations.get(position), Outcome.FAILED, error.getMessage());
+		}
+		if (skipped) {
+			return BoardOperationResult.failed(queuedOperations.get(position), Outcome.SKIPPED, "A previous operation of the ordered batch failed");
+		}
+		return queued.get(position);
+	}
+
+	private Map<String, Long> findCurrentVersions(List<BoardOperation> operations) {
+		Set<Object> ids = new HashSet<>();
+		for (BoardOperation operation : operations) {
+			if (operation.getOp() != BoardOperation.Type.CREATE && operation.getId() != null) {
+				ids.add(ObjectId.isValid(operation.getId()) ? new ObjectId(operation.getId()) : operation.getId());
+			}
+		}
+		Map<String, Long> versions = new HashMap<>();
+		if (ids.isEmpty()) {
+			return versions;
+		}
+		Query targets = new Query(where("id").in(ids));
+		targets.fields().include("version");
+		for (Board board : mongoOperations.find(targets, Board.class)) {
+			versions.put(board.getId(), board.getVersion());
+		}
+		return versions;
+	}
+
+	private Query targetQuery(String id, Long version) {
+		Query query = new Query(where("id").is(id));
+		if (version != null) {
+			query.addCriteria(where("version").is(version));
+		}
+		return query;
+	}
+}
@@ -0,0 +1,41 @@
+package com.taskboards.boards.domain;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.PublicMetrics;
+import org.springframework.boot.actuate.metrics.Metric;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+@Component
+public class BoardCacheMetrics implements PublicMetrics {
+
+	private static final String PREFIX = "cache." + BoardRepository.CACHE_NAME + ".";
+
+	private final CacheManager cacheManager;
+
+	@Autowired
+	public BoardCacheMetrics(CacheManager cacheManager) {
+		this.cacheManager = cacheManager;
+	}
+
+	@Override
+	public Collection<Metric<?>> metrics() {
+		List<Metric<?>> metrics = new ArrayList<>();
+		Cache cache = cacheManager.getCache(BoardRepository.CACHE_NAME);
+		if (cache instanceof CaffeineCache) {
+			CacheStats stats = ((CaffeineCache) cache).getNativeCache().stats();
+			metrics.add(new Metric<>(PREFIX + "hits", stats.hitCount()));
+			metrics.add(new Metric<>(PREFIX + "misses", stats.missCount()));
+			metrics.add(new Metric<>(PREFIX + "evictions", stats.evictionCount()));
+		}
+		return metrics;
+	}
+}
@@ -0,0 +1,56 @@
+package com.taskboards.boards.domain;
+
+import lombok.Getter;
+
+@Getter
+public class BoardChange {
+
+	public enum Type {
+		CREATED, UPDATED, REMOVED, RESET
+	}
+
+	private final Type type;
+
+	private final String id;
+
+	private final Board board;
+
+	private final String previousName;
+
+	private BoardChange(Type type, String id, Board board, String previousName) {
+		this.type = type;
+		this.id = id;
+		this.board = board;
+		this.previousName = previousName;
+	}
+
+	public static BoardChange saved(Board board) {
+		Type type = board.getVersion() == null || board.getVersion() == 0 ? Type.CREATED : Type.UPDATED;
+		return new BoardChange(type, board.getId(), board, null);
+	}
+
+	public static BoardChange created() {
+		return new BoardChange(Type.CREATED, null, null, null);
+	}
+
+	public static BoardChange updated(Board board, String previousName) {
+		return new BoardChange(Type.UPDATED, board.getId(), board, previousName);
+	}
+
+	public static BoardChange removed(String id) {
+		return new BoardChange(Type.REMOVED, id, null, null);
+	}
+
+	public static BoardChange reset() {
+		return new BoardChange(Type.RESET, null, null, null);
+	}
+
+	public boolean isRenamed() {
+		return previousName == null || !previousName.equals(board.getName());
+	}
+
+	@Override
+	public String toString() {
+		return String.format("BoardChange[type=%s, id='%s']", type, id);
+	}
+}
@@ -0,0 +1,38 @@
+package com.taskboards.boards.domain;
+
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.core.mapping.event.AbstractMongoEventListener;
+import org.springframework.data.mongodb.core.mapping.event.AfterDeleteEvent;
+import org.springframework.data.mongodb.core.mapping.event.AfterSaveEvent;
+import org.springframework.stereotype.Component;
+
+import com.mongodb.DBObject;
+
+@Component
+public class BoardChangeMongoEventListener extends AbstractMongoEventListener<Board> {
+
+	private final ApplicationEventPublisher eventPublisher;
+
+	@Autowired
+	public BoardChangeMongoEventListener(ApplicationEventPublisher eventPublisher) {
+		this.eventPublisher = eventPublisher;
+	}
+
+	@Override
+	public void onAfterSave(AfterSaveEvent<Board> event) {
+		eventPublisher.publishEvent(BoardChange.saved(event.getSource()));
+	}
+
+	@Override
+	public void onAfterDelete(AfterDeleteEvent<Board> event) {
+		DBObject query = event.getSource();
+		Object id = query == null ? null : query.containsField("_id") ? query.get("_id") : query.get("id");
+		if (id instanceof String || id instanceof ObjectId) {
+			eventPublisher.publishEvent(BoardChange.removed(id.toString()));
+		} else {
+			eventPublisher.publishEvent(BoardChange.reset());
+		}
+	}
+}
@@ -0,0 +1,18 @@
+package com.taskboards.boards.domain;
+
+import java.util.Date;
+
+import lombok.Getter;
+
+@Getter
+public class BoardCollectionVersion {
+
+	private final long count;
+
+	private final Date lastModified;
+
+	public BoardCollectionVersion(long count, Date lastModified) {
+		this.count = count;
+		this.lastModified = lastModified;
+	}
+}
@@ -0,0 +1,44 @@
+package com.taskboards.boards.domain;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import lombok.Getter;
+
+@Getter
+public class BoardCursor {
+
+	private static final char SEPARATOR = '\n';
+
+	private final String id;
+
+	private final String sortValue;
+
+	public BoardCursor(String id, String sortValue) {
+		this.id = id;
+		this.sortValue = sortValue;
+	}
+
+	public static BoardCursor of(Board board, BoardSortProperty sortProperty) {
+		return new BoardCursor(board.getId(), sortProperty.valueOf(board));
+	}
+
+	public static BoardCursor decode(String token) {
+		String decoded;
+		try {
+			decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("Malformed board cursor: " + token, e);
+		}
+		int separator = decoded.indexOf(SEPARATOR);
+		if (separator < 1) {
+			throw new IllegalArgumentException("Malformed board cursor: " + token);
+		}
+		return new BoardCursor(decoded.substring(0, separator), decoded.substring(separator + 1));
+	}
+
+	public String encode() {
+		String raw = id + SEPARATOR + (sortValue == null ? "" : sortValue);
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,50 @@
+package com.taskboards.boards.domain;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import lombok.EqualsAndHashCode;
+
+@EqualsAndHashCode
+public final class BoardFields {
+
+	public static final BoardFields ALL = new BoardFields(Collections.emptySet());
+
+	private static final Set<String> SELECTABLE = Collections.unmodifiableSet(
+			new LinkedHashSet<>(Arrays.asList("id", "name", "description", "version", "lastModified")));
+
+	private final Set<String> names;
+
+	private BoardFields(Set<String> names) {
+		this.names = Collections.unmodifiableSet(names);
+	}
+
+	public static BoardFields of(String... names) {
+		Set<String> selected = new LinkedHashSet<>();
+		for (String name : names) {
+			String field = name.trim();
+			if (field.isEmpty()) {
+				continue;
+			}
+			if (!SELECTABLE.contains(field)) {
+				throw new IllegalArgumentException("Boards have no selectable field: " + field);
+			}
+			selected.add(field);
+		}
+		return selected.isEmpty() ? ALL : new BoardFields(selected);
+	}
+
+	public static BoardFields parse(String fields) {
+		return fields == null ? ALL : of(fields.split(","));
+	}
+
+	public boolean isAll() {
+		return names.isEmpty();
+	}
+
+	public Set<String> getNames() {
+		return isAll() ? SELECTABLE : names;
+	}
+}
@@ -0,0 +1,31 @@
+package com.taskboards.boards.domain;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.AbstractEndpoint;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "endpoints.boardindexes")
+public class BoardIndexEndpoint extends AbstractEndpoint<Map<String, Object>> {
+
+	private final BoardIndexes indexes;
+
+	@Autowired
+	public BoardIndexEndpoint(BoardIndexes indexes) {
+		super("boardindexes");
+		this.indexes = indexes;
+	}
+
+	@Override
+	public Map<String, Object> invoke() {
+		Map<String, Object> status = new LinkedHashMap<>();
+		status.put("collection", indexes.getCollectionName());
+		status.put("missing", indexes.getMissing());
+		status.put("indexes", indexes.getStatus());
+		return status;
+	}
+}
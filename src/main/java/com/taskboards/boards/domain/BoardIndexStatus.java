@@ -0,0 +1,30 @@
+package com.taskboards.boards.domain;
+
+import java.util.Date;
+
+import lombok.Getter;
+
+@Getter
+public class BoardIndexStatus {
+
+	private final String name;
+
+	private final String keys;
+
+	private final boolean required;
+
+	private final boolean present;
+
+	private final Long accesses;
+
+	private final Date accessesSince;
+
+	BoardIndexStatus(String name, String keys, boolean required, boolean present, Long accesses, Date accessesSince) {
+		this.name = name;
+		this.keys = keys;
+		this.required = required;
+		this.present = present;
+		this.accesses = accesses;
+		this.accessesSince = accessesSince;
+	}
+}
@@ -0,0 +1,171 @@
+package com.taskboards.boards.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.stereotype.Component;
+
+import com.mongodb.AggregationOptions;
+import com.mongodb.BasicDBObject;
+import com.mongodb.Cursor;
+import com.mongodb.DBObject;
+import com.mongodb.MongoException;
+import com.taskboards.boards.BoardsProperties;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class BoardIndexes implements ApplicationRunner {
+
+	private static final Logger log = LoggerFactory.getLogger(BoardIndexes.class);
+
+	static final List<Index> REQUIRED = Collections.unmodifiableList(Arrays.asList(
+			new Index().on("normalizedName", Direction.ASC).on("_id", Direction.ASC).named("normalizedName_id").background(),
+			new Index().on("name", Direction.ASC).on("_id", Direction.ASC).named("name_id").background(),
+			new Index().on("lastModified", Direction.ASC).named("lastModified").background()));
+
+	private final MongoOperations mongoOperations;
+
+	private final BoardsProperties.Indexes properties;
+
+	@Autowired
+	public BoardIndexes(MongoOperations mongoOperations, BoardsProperties properties) {
+		this.mongoOperations = mongoOperations;
+		this.properties = properties.getIndexes();
+	}
+
+	@Override
+	public void run(ApplicationArguments args) {
+		if (properties.isCreateOnStartup()) {
+			create();
+		}
+		verify();
+	}
+
+	void create() {
+		for (Index index : REQUIRED) {
+			try {
+				mongoOperations.indexOps(Board.class).ensureIndex(index);
+			} catch (RuntimeException e) {
+				log.warn("Could not create the board index {}: {}", keysOf(index), e.getMessage());
+			}
+		}
+	}
+
+	void verify() {
+		List<String> missing = getMissing();
+		if (missing.isEmpty()) {
+			return;
+		}
+		String message = "The board collection is missing the indexes " + missing;
+		if (properties.isFailOnMissing()) {
+			throw new IllegalStateException(message);
+		}
+		log.warn("{}; the queries that need them will scan the collection", message);
+	}
+
+	public String getCollectionName() {
+		return mongoOperations.getCollectionName(Board.class);
+	}
+
+	public List<String> getMissing() {
+		Map<String, IndexInfo> present = presentByKeys();
+		List<String> missing = new ArrayList<>();
+		for (Index index : REQUIRED) {
+			if (!present.containsKey(keysOf(index))) {
+				missing.add(keysOf(index));
+			}
+		}
+		return missing;
+	}
+
+	public List<BoardIndexStatus> getStatus() {
+		Map<String, IndexInfo> present = presentByKeys();
+		Map<String, DBObject> usage = usageByName();
+		List<BoardIndexStatus> status = new ArrayList<>();
+		for (Index index : REQUIRED) {
+			String keys = keysOf(index);
+			IndexInfo info = present.remove(keys);
+			String name = info == null ? (String) index.getIndexOptions().get("name") : info.getName();
+			status.add(status(name, keys, true, info != null, usage.get(name)));
+		}
+		for (Map.Entry<String, IndexInfo> extra : present.entrySet()) {
+			String name = extra.getValue().getName();
+			status.add(status(name, extra.getKey(), false, true, usage.get(name)));
+		}
+		return status;
+	}
+
+	private Map<String, IndexInfo> presentByKeys() {
+		Map<String, IndexInfo> present = new LinkedHashMap<>();
+		for (IndexInfo info : mongoOperations.indexOps(Board.class).getIndexInfo()) {
+			present.put(keysOf(info), info);
+		}
+		return present;
+	}
+
+	private Map<String, DBObject> usageByName() {
+		Map<String, DBObject> usage = new HashMap<>();
+		List<DBObject> pipeline = Collections.singletonList(new BasicDBObject("$indexStats", new BasicDBObject()));
+		AggregationOptions options = AggregationOptions.builder().outputMode(AggregationOptions.OutputMode.CURSOR).build();
+		try (Cursor stats = mongoOperations.getCollection(getCollectionName()).aggregate(pipeline, options)) {
+			while (stats.hasNext()) {
+				DBObject stat = stats.next();
+				usage.put((String) stat.get("name"), (DBObject) stat.get("accesses"));
+			}
+		} catch (MongoException e) {
+			log.debug("Index usage statistics are not available: {}", e.getMessage());
+		}
+		return usage;
+	}
+
+	private static BoardIndexStatus status(String name, String keys, boolean required, boolean present, DBObject accesses) {
+		if (accesses == null) {
+			return new BoardIndexStatus(name, keys, required, present, null, null);
+		}
+		return new BoardIndexStatus(name, keys, required, present, ((Number) accesses.get("ops")).longValue(), (Date) accesses.get("since"));
+	}
+
+	static String keysOf(Index index) {
+		StringBuilder keys = new StringBuilder("{");
+		for (String key : index.getIndexKeys().keySet()) {
+			keys.append(keys.length() > 1 ? ", " : "").append(key).append(": ").append(index.getIndexKeys().get(key));
+		}
+		return keys.append('}').toString();
+	}
+
+	static String keysOf(IndexInfo info) {
+		StringBuilder keys = new StringBuilder("{");
+		for (IndexField field : info.getIndexFields()) {
+			keys.append(keys.length() > 1 ? ", " : "").append(field.getKey()).append(": ").append(directionOf(field));
+		}
+		return keys.append('}').toString();
+	}
+
+	private static String directionOf(IndexField field) {
+		if (field.isGeo()) {
+			return "2d";
+		}
+		if (field.isText()) {
+			return "text";
+		}
+		return field.getDirection() == Direction.DESC ? "-1" : "1";
+	}
+}
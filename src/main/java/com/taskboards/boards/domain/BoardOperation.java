@@ -0,0 +1,45 @@
+package com.taskboards.boards.domain;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class BoardOperation {
+
+	public enum Type {
+		@JsonProperty("create") CREATE,
+		@JsonProperty("update") UPDATE,
+		@JsonProperty("delete") DELETE
+	}
+
+	@JsonIgnore
+	private int index;
+
+	private Type op;
+
+	private String id;
+
+	private Long version;
+
+	private Board board;
+
+	public BoardOperation(Type op, String id, Long version, Board board) {
+		this.op = op;
+		this.id = id;
+		this.version = version;
+		this.board = board;
+	}
+
+	public Long getExpectedVersion() {
+		if (version != null) {
+			return version;
+		}
+		return board == null ? null : board.getVersion();
+	}
+}
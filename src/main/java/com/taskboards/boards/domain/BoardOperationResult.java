@@ -0,0 +1,44 @@
+package com.taskboards.boards.domain;
+
+import lombok.Getter;
+
+@Getter
+public class BoardOperationResult {
+
+	public enum Outcome {
+		CREATED, UPDATED, DELETED, INVALID, NOT_FOUND, CONFLICT, FAILED, SKIPPED
+	}
+
+	private final int index;
+
+	private final BoardOperation.Type op;
+
+	private final String id;
+
+	private final Long version;
+
+	private final Outcome outcome;
+
+	private final String error;
+
+	public BoardOperationResult(BoardOperation operation, String id, Long version, Outcome outcome, String error) {
+		this.index = operation.getIndex();
+		this.op = operation.getOp();
+		this.id = id;
+		this.version = version;
+		this.outcome = outcome;
+		this.error = error;
+	}
+
+	public static BoardOperationResult succeeded(BoardOperation operation, String id, Long version, Outcome outcome) {
+		return new BoardOperationResult(operation, id, version, outcome, null);
+	}
+
+	public static BoardOperationResult failed(BoardOperation operation, Outcome outcome, String error) {
+		return new BoardOperationResult(operation, operation.getId(), null, outcome, error);
+	}
+
+	public boolean isSuccessful() {
+		return outcome == Outcome.CREATED || outcome == Outcome.UPDATED || outcome == Outcome.DELETED;
+	}
+}
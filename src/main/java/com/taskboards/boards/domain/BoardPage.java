@@ -0,0 +1,25 @@
+package com.taskboards.boards.domain;
+
+import java.util.List;
+
+import lombok.Getter;
+
+@Getter
+public class BoardPage {
+
+	private final List<Board> content;
+
+	private final BoardCursor next;
+
+	private final BoardCursor previous;
+
+	public BoardPage(List<Board> content, BoardCursor next, BoardCursor previous) {
+		this.content = content;
+		this.next = next;
+		this.previous = previous;
+	}
+
+	public boolean isEmpty() {
+		return content.isEmpty();
+	}
+}
@@ -0,0 +1,53 @@
+package com.taskboards.boards.domain;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+
+import lombok.Getter;
+
+@Getter
+public class BoardPageRequest {
+
+	private final BoardSortProperty sortProperty;
+
+	private final Direction direction;
+
+	private final BoardCursor after;
+
+	private final BoardCursor before;
+
+	private final int size;
+
+	public BoardPageRequest(BoardSortProperty sortProperty, Direction direction, BoardCursor after, BoardCursor before, int size) {
+		if (after != null && before != null) {
+			throw new IllegalArgumentException("A board page cannot be requested both after and before a cursor");
+		}
+		if (size < 1) {
+			throw new IllegalArgumentException("Board page size must be positive: " + size);
+		}
+		this.sortProperty = sortProperty;
+		this.direction = direction;
+		this.after = after;
+		this.before = before;
+		this.size = size;
+	}
+
+	public boolean isBackwards() {
+		return before != null;
+	}
+
+	public BoardCursor getCursor() {
+		return isBackwards() ? before : after;
+	}
+
+	public Sort getSort() {
+		return sortFor(sortProperty, direction);
+	}
+
+	public static Sort sortFor(BoardSortProperty sortProperty, Direction direction) {
+		if (sortProperty == BoardSortProperty.ID) {
+			return new Sort(direction, "id");
+		}
+		return new Sort(direction, sortProperty.getProperty(), "id");
+	}
+}
@@ -0,0 +1,166 @@
+package com.taskboards.boards.domain;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+final class BoardQueries {
+
+	private BoardQueries() {
+	}
+
+	static Query byId(String id) {
+		return new Query(where("id").is(id));
+	}
+
+	static Query namePrefix(String prefix) {
+		return new Query(namePrefixCriteria(prefix)).with(new Sort("normalizedName"));
+	}
+
+	static Query nameFilter(String prefix) {
+		return prefix == null || prefix.isEmpty() ? new Query() : new Query(namePrefixCriteria(prefix));
+	}
+
+	static Query page(BoardPageRequest pageRequest) {
+		BoardSortProperty sortProperty = pageRequest.getSortProperty();
+		Direction scanDirection = pageRequest.isBackwards() ? reverse(pageRequest.getDirection()) : pageRequest.getDirection();
+
+		Query query = new Query();
+		if (pageRequest.getCursor() != null) {
+			query.addCriteria(keysetCriteria(sortProperty, scanDirection, pageRequest.getCursor()));
+		}
+		return query.with(BoardPageRequest.sortFor(sortProperty, scanDirection)).limit(pageRequest.getSize() + 1);
+	}
+
+	static BoardPage toPage(List<Board> scannedBoards, BoardPageRequest pageRequest) {
+		List<Board> boards = new ArrayList<>(scannedBoards);
+		boolean hasMore = boards.size() > pageRequest.getSize();
+		if (hasMore) {
+			boards = new ArrayList<>(boards.subList(0, pageRequest.getSize()));
+		}
+		if (pageRequest.isBackwards()) {
+			Collections.reverse(boards);
+		}
+		if (boards.isEmpty()) {
+			return new BoardPage(boards, null, null);
+		}
+		BoardCursor first = BoardCursor.of(boards.get(0), pageRequest.getSortProperty());
+		BoardCursor last = BoardCursor.of(boards.get(boards.size() - 1), pageRequest.getSortProperty());
+		if (pageRequest.isBackwards()) {
+			return new BoardPage(boards, last, hasMore ? first : null);
+		}
+		return new BoardPage(boards, hasMore ? last : null, pageRequest.getCursor() != null ? first : null);
+	}
+
+	static Query project(Query query, BoardFields fields, String... requiredFields) {
+		if (fields.isAll()) {
+			return query;
+		}
+		for (String field : fields.getNames()) {
+			query.fields().include(field);
+		}
+		for (String field : requiredFields) {
+			query.fields().include(field);
+		}
+		return query;
+	}
+
+	static Query version(String id) {
+		Query query = byId(id);
+		query.fields().include("version");
+		return query;
+	}
+
+	static Query versioned(String id, Long version) {
+		Query query = byId(id);
+		if (version != null) {
+			query.addCriteria(where("version").is(version));
+		}
+		return query;
+	}
+
+	static Update replacement(Board board, Date lastModified) {
+		return new Update()
+				.set("name", board.getName())
+				.set("normalizedName", board.getNormalizedName())
+				.set("description", board.getDescription())
+				.set("lastModified", lastModified)
+				.inc("version", 1);
+	}
+
+	static Board replaced(Board previous, Board board, Date lastModified) {
+		Board replaced = new Board(previous);
+		replaced.setName(board.getName());
+		replaced.setDescription(board.getDescription());
+		replaced.setVersion(previous.getVersion() == null ? 1L : previous.getVersion() + 1);
+		replaced.setLastModified(lastModified);
+		return replaced;
+	}
+
+	static Update restoration(Board board, Date lastModified) {
+		return new Update()
+				.set("name", board.getName())
+				.set("normalizedName", board.getNormalizedName())
+				.set("description", board.getDescription())
+				.set("version", board.getVersion() == null ? 0L : board.getVersion())
+				.set("lastModified", lastModified);
+	}
+
+	static Query latestModification() {
+		Query query = new Query().with(new Sort(Direction.DESC, "lastModified")).limit(1);
+		query.fields().include("lastModified");
+		return query;
+	}
+
+	static Criteria namePrefixCriteria(String prefix) {
+		String normalizedPrefix = Board.normalizeName(prefix);
+		Criteria criteria = where("normalizedName").gte(normalizedPrefix);
+		String upperBound = prefixUpperBound(normalizedPrefix);
+		return upperBound == null ? criteria : criteria.lt(upperBound);
+	}
+
+	private static Criteria keysetCriteria(BoardSortProperty sortProperty, Direction direction, BoardCursor cursor) {
+		Object id = toIdValue(cursor.getId());
+		if (sortProperty == BoardSortProperty.ID) {
+			return direction.isAscending() ? where("id").gt(id) : where("id").lt(id);
+		}
+		String property = sortProperty.getProperty();
+		String value = cursor.getSortValue();
+		if (direction.isAscending()) {
+			return new Criteria().orOperator(where(property).gt(value), where(property).is(value).and("id").gt(id));
+		}
+		return new Criteria().orOperator(where(property).lt(value), where(property).is(value).and("id").lt(id));
+	}
+
+	private static String prefixUpperBound(String prefix) {
+		StringBuilder upperBound = new StringBuilder(prefix);
+		while (upperBound.length() > 0) {
+			int last = upperBound.length() - 1;
+			char lastChar = upperBound.charAt(last);
+			if (lastChar != Character.MAX_VALUE) {
+				upperBound.setCharAt(last, (char) (lastChar + 1));
+				return upperBound.toString();
+			}
+			upperBound.setLength(last);
+		}
+		return null;
+	}
+
+	private static Object toIdValue(String id) {
+		return ObjectId.isValid(id) ? new ObjectId(id) : id;
+	}
+
+	private static Direction reverse(Direction direction) {
+		return direction.isAscending() ? Direction.DESC : Direction.ASC;
+	}
+}
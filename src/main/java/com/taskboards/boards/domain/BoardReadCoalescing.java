@@ -0,0 +1,64 @@
+package com.taskboards.boards.domain;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(prefix = "boards.coalescing", name = "enabled", matchIfMissing = true)
+public class BoardReadCoalescing {
+
+	public static final String METRIC_NAME = "boards.repository.coalesced";
+
+	private final SingleFlight<List<Object>, Object> flights = new SingleFlight<>();
+
+	private final Counter findOneCoalesced;
+
+	private final Counter findByNameCoalesced;
+
+	@Autowired
+	public BoardReadCoalescing(MeterRegistry registry) {
+		this.findOneCoalesced = Counter.builder(METRIC_NAME).tag("method", "findOne").register(registry);
+		this.findByNameCoalesced = Counter.builder(METRIC_NAME).tag("method", "findByNameStartsWithIgnoreCase").register(registry);
+		registry.gauge("boards.repository.in.flight", flights, SingleFlight::inFlight);
+	}
+
+	@Around("target(com.taskboards.boards.domain.BoardRepository) && execution(* findOne(String))")
+	public Object coalesceFindOne(ProceedingJoinPoint joinPoint) throws Throwable {
+		return flights.execute(keyOf(joinPoint), joinPoint::proceed, findOneCoalesced::increment, UnaryOperator.identity());
+	}
+
+	@Around("target(com.taskboards.boards.domain.BoardRepository) && execution(* findByNameStartsWithIgnoreCase(..))")
+	public Object coalesceFindByName(ProceedingJoinPoint joinPoint) throws Throwable {
+		return flights.execute(keyOf(joinPoint), joinPoint::proceed, findByNameCoalesced::increment,
+				BoardReadCoalescing::unmodifiableCopy);
+	}
+
+	private static Object unmodifiableCopy(Object boards) {
+		return Collections.unmodifiableList(new ArrayList<>((List<?>) boards));
+	}
+
+	private static List<Object> keyOf(ProceedingJoinPoint joinPoint) {
+		List<Object> key = new ArrayList<>(joinPoint.getArgs().length + 1);
+		key.add(((MethodSignature) joinPoint.getSignature()).getMethod());
+		key.addAll(Arrays.asList(joinPoint.getArgs()));
+		return key;
+	}
+}
@@ -2,10 +2,42 @@ package com.taskboards.boards.domain;
 
 import java.util.List;
 
+import org.springframework.cache.annotation.CacheConfig;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 
-public interface BoardRepository extends MongoRepository<Board, String> {
-	
-	List<Board> findByNameStartsWithIgnoreCase(String name);
+@CacheConfig(cacheNames = BoardRepository.CACHE_NAME)
+public interface BoardRepository extends MongoRepository<Board, String>, BoardRepositoryCustom {
+
+	String CACHE_NAME = "boards";
+
+	@Override
+	@Cacheable(unless = "#result == null")
+	Board findOne(String id);
+
+	@Override
+	@CacheEvict(key = "#p0.id")
+	<S extends Board> S save(S board);
+
+	@Override
+	@CacheEvict(allEntries = true)
+	<S extends Board> List<S> save(Iterable<S> boards);
+
+	@Override
+	@CacheEvict
+	void delete(String id);
+
+	@Override
+	@CacheEvict(key = "#p0.id")
+	void delete(Board board);
+
+	@Override
+	@CacheEvict(allEntries = true)
+	void delete(Iterable<? extends Board> boards);
+
+	@Override
+	@CacheEvict(allEntries = true)
+	void deleteAll();
 
 }
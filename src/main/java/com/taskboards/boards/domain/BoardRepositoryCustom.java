@@ -0,0 +1,47 @@
+package com.taskboards.boards.domain;
+
+import java.util.List;
+
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.util.CloseableIterator;
+
+public interface BoardRepositoryCustom {
+
+	List<Board> findByNameStartsWithIgnoreCase(String name);
+
+	List<Board> findByNameStartsWithIgnoreCase(String name, BoardFields fields);
+
+	BoardPage findPage(BoardPageRequest pageRequest);
+
+	BoardPage findPage(BoardPageRequest pageRequest, BoardFields fields);
+
+	List<Board> findSlice(String namePrefix, int offset, int limit, Sort sort, BoardFields fields);
+
+	long countByNamePrefix(String namePrefix);
+
+	Board findVersion(String id);
+
+	CloseableIterator<Board> streamAll(Sort sort);
+
+	CloseableIterator<Board> streamAll(Sort sort, BoardFields fields);
+
+	@CacheEvict(cacheNames = BoardRepository.CACHE_NAME, key = "#p0")
+	Board replace(String id, Board board);
+
+	@CacheEvict(cacheNames = BoardRepository.CACHE_NAME, key = "#p0")
+	Board removeById(String id, Long version);
+
+	BoardCollectionVersion findCollectionVersion();
+
+	@CacheEvict(cacheNames = BoardRepository.CACHE_NAME, allEntries = true)
+	List<BoardOperationResult> bulkWrite(List<BoardOperation> operations, boolean ordered);
+
+	int importBoards(List<Board> boards);
+
+	@CacheEvict(cacheNames = BoardRepository.CACHE_NAME, allEntries = true)
+	void importFinished();
+
+	int insertBoards(List<Board> boards);
+
+}
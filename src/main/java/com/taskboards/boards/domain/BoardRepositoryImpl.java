@@ -0,0 +1,165 @@
+package com.taskboards.boards.domain;
+
+import java.util.Date;
+import java.util.List;
+
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.util.CloseableIterator;
+
+import com.mongodb.BulkWriteResult;
+
+public class BoardRepositoryImpl implements BoardRepositoryCustom, ApplicationEventPublisherAware {
+
+	private final MongoOperations mongoOperations;
+
+	private ApplicationEventPublisher eventPublisher;
+
+	@Autowired
+	public BoardRepositoryImpl(MongoOperations mongoOperations) {
+		this.mongoOperations = mongoOperations;
+	}
+
+	@Override
+	public void setApplicationEventPublisher(ApplicationEventPublisher eventPublisher) {
+		this.eventPublisher = eventPublisher;
+	}
+
+	@Override
+	public List<Board> findByNameStartsWithIgnoreCase(String name) {
+		return findByNameStartsWithIgnoreCase(name, BoardFields.ALL);
+	}
+
+	@Override
+	public List<Board> findByNameStartsWithIgnoreCase(String name, BoardFields fields) {
+		return mongoOperations.find(BoardQueries.project(BoardQueries.namePrefix(name), fields), Board.class);
+	}
+
+	@Override
+	public BoardPage findPage(BoardPageRequest pageRequest) {
+		return findPage(pageRequest, BoardFields.ALL);
+	}
+
+	@Override
+	public BoardPage findPage(BoardPageRequest pageRequest, BoardFields fields) {
+		Query query = BoardQueries.project(BoardQueries.page(pageRequest), fields, pageRequest.getSortProperty().getProperty());
+		return BoardQueries.toPage(mongoOperations.find(query, Board.class), pageRequest);
+	}
+
+	@Override
+	public List<Board> findSlice(String namePrefix, int offset, int limit, Sort sort, BoardFields fields) {
+		Query query = BoardQueries.project(BoardQueries.nameFilter(namePrefix).with(sort).skip(offset).limit(limit), fields);
+		return mongoOperations.find(query, Board.class);
+	}
+
+	@Override
+	public long countByNamePrefix(String namePrefix) {
+		return mongoOperations.count(BoardQueries.nameFilter(namePrefix), Board.class);
+	}
+
+	@Override
+	public Board findVersion(String id) {
+		return mongoOperations.findOne(BoardQueries.version(id), Board.class);
+	}
+
+	@Override
+	public CloseableIterator<Board> streamAll(Sort sort) {
+		return streamAll(sort, BoardFields.ALL);
+	}
+
+	@Override
+	public CloseableIterator<Board> streamAll(Sort sort, BoardFields fields) {
+		return mongoOperations.stream(BoardQueries.project(new Query().with(sort), fields), Board.class);
+	}
+
+	@Override
+	public Board replace(String id, Board board) {
+		Date lastModified = new Date();
+		Board previous = mongoOperations.findAndModify(BoardQueries.versioned(id, board.getVersion()),
+				BoardQueries.replacement(board, lastModified), Board.class);
+		if (previous == null) {
+			checkVersionConflict(id, board.getVersion());
+			return null;
+		}
+		Board replaced = BoardQueries.replaced(previous, board, lastModified);
+		publish(BoardChange.updated(replaced, previous.getName()));
+		return replaced;
+	}
+
+	@Override
+	public Board removeById(String id, Long version) {
+		Board removed = mongoOperations.findAndRemove(BoardQueries.versioned(id, version), Board.class);
+		if (removed == null) {
+			checkVersionConflict(id, version);
+		} else {
+			publish(BoardChange.removed(id));
+		}
+		return removed;
+	}
+
+	@Override
+	public BoardCollectionVersion findCollectionVersion() {
+		Board lastModifiedBoard = mongoOperations.findOne(BoardQueries.latestModification(), Board.class);
+		return new BoardCollectionVersion(mongoOperations.count(new Query(), Board.class),
+				lastModifiedBoard == null ? null : lastModifiedBoard.getLastModified());
+	}
+
+	@Override
+	public List<BoardOperationResult> bulkWrite(List<BoardOperation> operations, boolean ordered) {
+		List<BoardOperationResult> results = new BoardBulkWrite(mongoOperations, ordered).execute(operations);
+		if (results.stream().anyMatch(BoardOperationResult::isSuccessful)) {
+			publish(BoardChange.reset());
+		}
+		return results;
+	}
+
+	@Override
+	public int importBoards(List<Board> boards) {
+		if (boards.isEmpty()) {
+			return 0;
+		}
+		BulkOperations bulk = mongoOperations.bulkOps(BulkMode.UNORDERED, Board.class);
+		Date lastModified = new Date();
+		for (Board board : boards) {
+			String id = board.getId() == null ? new ObjectId().toHexString() : board.getId();
+			bulk.upsert(BoardQueries.byId(id), BoardQueries.restoration(board, lastModified));
+		}
+		BulkWriteResult written = bulk.execute();
+		return written.getMatchedCount() + written.getUpserts().size();
+	}
+
+	@Override
+	public void importFinished() {
+		publish(BoardChange.reset());
+	}
+
+	@Override
+	public int insertBoards(List<Board> boards) {
+		if (boards.isEmpty()) {
+			return 0;
+		}
+		BulkWriteResult written = mongoOperations.bulkOps(BulkMode.UNORDERED, Board.class).insert(boards).execute();
+		publish(BoardChange.created());
+		return written.getInsertedCount();
+	}
+
+	private void publish(BoardChange change) {
+		if (eventPublisher != null) {
+			eventPublisher.publishEvent(change);
+		}
+	}
+
+	private void checkVersionConflict(String id, Long version) {
+		if (version != null && mongoOperations.exists(BoardQueries.byId(id), Board.class)) {
+			throw new OptimisticLockingFailureException(String.format("Board %s is no longer at version %d", id, version));
+		}
+	}
+}
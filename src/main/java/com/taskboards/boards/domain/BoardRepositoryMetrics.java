@@ -0,0 +1,58 @@
+package com.taskboards.boards.domain;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@Aspect
+@Component
+public class BoardRepositoryMetrics {
+
+	public static final String METRIC_NAME = "boards.repository";
+
+	private final MeterRegistry registry;
+
+	private final ConcurrentMap<Method, Timer> successTimers = new ConcurrentHashMap<>();
+
+	@Autowired
+	public BoardRepositoryMetrics(MeterRegistry registry) {
+		this.registry = registry;
+	}
+
+	@Around("target(com.taskboards.boards.domain.BoardRepository)")
+	public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+		Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+		long start = registry.config().clock().monotonicTime();
+		try {
+			Object result = joinPoint.proceed();
+			successTimers.computeIfAbsent(method, key -> timer(key, "success", "none")).record(elapsedSince(start), TimeUnit.NANOSECONDS);
+			return result;
+		} catch (Throwable error) {
+			timer(method, "error", error.getClass().getSimpleName()).record(elapsedSince(start), TimeUnit.NANOSECONDS);
+			throw error;
+		}
+	}
+
+	private Timer timer(Method method, String outcome, String exception) {
+		return Timer.builder(METRIC_NAME)
+				.tag("method", method.getName())
+				.tag("outcome", outcome)
+				.tag("exception", exception)
+				.register(registry);
+	}
+
+	private long elapsedSince(long start) {
+		return registry.config().clock().monotonicTime() - start;
+	}
+}
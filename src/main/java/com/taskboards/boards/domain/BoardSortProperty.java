@@ -0,0 +1,35 @@
+package com.taskboards.boards.domain;
+
+import java.util.function.Function;
+
+public enum BoardSortProperty {
+
+	ID("id", Board::getId),
+	NAME("name", Board::getName);
+
+	private final String property;
+
+	private final Function<Board, String> accessor;
+
+	BoardSortProperty(String property, Function<Board, String> accessor) {
+		this.property = property;
+		this.accessor = accessor;
+	}
+
+	public String getProperty() {
+		return property;
+	}
+
+	public String valueOf(Board board) {
+		return accessor.apply(board);
+	}
+
+	public static BoardSortProperty fromProperty(String property) {
+		for (BoardSortProperty sortProperty : values()) {
+			if (sortProperty.property.equalsIgnoreCase(property)) {
+				return sortProperty;
+			}
+		}
+		throw new IllegalArgumentException("Boards cannot be sorted by: " + property);
+	}
+}
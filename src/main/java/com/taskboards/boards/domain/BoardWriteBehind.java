@@ -0,0 +1,190 @@
+package com.taskboards.boards.domain;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.taskboards.boards.BoardsProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Component
+@ConditionalOnProperty(prefix = "boards.write-behind", name = "enabled", havingValue = "true")
+public class BoardWriteBehind implements SmartLifecycle {
+
+	public static final String METRIC_NAME = "boards.write.behind";
+
+	private static final Logger log = LoggerFactory.getLogger(BoardWriteBehind.class);
+
+	private final BoardRepository repository;
+
+	private final BlockingQueue<Board> queue;
+
+	private final int batchSize;
+
+	private final long flushIntervalNanos;
+
+	private final Counter accepted;
+
+	private final Counter rejected;
+
+	private final Counter written;
+
+	private final Counter failed;
+
+	private final ReadWriteLock admission = new ReentrantReadWriteLock();
+
+	private volatile boolean running;
+
+	private Thread worker;
+
+	@Autowired
+	public BoardWriteBehind(BoardRepository repository, BoardsProperties properties, MeterRegistry registry) {
+		BoardsProperties.WriteBehind writeBehind = properties.getWriteBehind();
+		this.repository = repository;
+		this.queue = new ArrayBlockingQueue<>(writeBehind.getQueueCapacity());
+		this.batchSize = writeBehind.getBatchSize();
+		this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(writeBehind.getFlushIntervalMillis());
+		this.accepted = counter(registry, "accepted");
+		this.rejected = counter(registry, "rejected");
+		this.written = counter(registry, "written");
+		this.failed = counter(registry, "failed");
+		registry.gauge(METRIC_NAME + ".queued", queue, BlockingQueue::size);
+	}
+
+	public Board offer(Board board) {
+		Board queued = new Board(board);
+		queued.setId(new ObjectId().toHexString());
+		queued.setVersion(0L);
+		queued.setLastModified(new Date());
+		admission.readLock().lock();
+		try {
+			if (!running || !queue.offer(queued)) {
+				rejected.increment();
+				return null;
+			}
+		} finally {
+			admission.readLock().unlock();
+		}
+		accepted.increment();
+		return queued;
+	}
+
+	@Override
+	public synchronized void start() {
+		if (running) {
+			return;
+		}
+		running = true;
+		worker = new Thread(this::drain, "board-write-behind");
+		worker.start();
+	}
+
+	@Override
+	public synchronized void stop() {
+		if (!running) {
+			return;
+		}
+		admission.writeLock().lock();
+		try {
+			running = false;
+		} finally {
+			admission.writeLock().unlock();
+		}
+		try {
+			worker.join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	@Override
+	public void stop(Runnable callback) {
+		stop();
+		callback.run();
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	@Override
+	public boolean isAutoStartup() {
+		return true;
+	}
+
+	@Override
+	public int getPhase() {
+		return 0;
+	}
+
+	private void drain() {
+		List<Board> batch = new ArrayList<>(batchSize);
+		while (running || !queue.isEmpty()) {
+			try {
+				fill(batch);
+			} catch (InterruptedException e) {
+				// only stop() ends the worker, and not before the queue is empty
+			}
+			if (!batch.isEmpty()) {
+				write(batch);
+				batch.clear();
+			}
+		}
+		log.info("Write-behind stopped after flushing its queue");
+	}
+
+	private void fill(List<Board> batch) throws InterruptedException {
+		if (!running) {
+			queue.drainTo(batch, batchSize);
+			return;
+		}
+		Board first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+		if (first == null) {
+			return;
+		}
+		batch.add(first);
+		long deadline = System.nanoTime() + flushIntervalNanos;
+		while (batch.size() < batchSize) {
+			queue.drainTo(batch, batchSize - batch.size());
+			long remaining = deadline - System.nanoTime();
+			if (batch.size() == batchSize || remaining <= 0) {
+				return;
+			}
+			Board next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+			if (next == null) {
+				return;
+			}
+			batch.add(next);
+		}
+	}
+
+	private void write(List<Board> batch) {
+		try {
+			repository.insertBoards(new ArrayList<>(batch));
+			written.increment(batch.size());
+		} catch (RuntimeException e) {
+			failed.increment(batch.size());
+			log.error("Dropped {} boards accepted for write-behind: {}", batch.size(), e.getMessage());
+		}
+	}
+
+	private static Counter counter(MeterRegistry registry, String outcome) {
+		return Counter.builder(METRIC_NAME).tag("outcome", outcome).register(registry);
+	}
+}
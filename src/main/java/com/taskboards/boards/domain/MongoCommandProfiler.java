@@ -0,0 +1,214 @@
+package com.taskboards.boards.domain;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import com.taskboards.boards.BoardsProperties;
+
+@Component
+public class MongoCommandProfiler implements CommandListener {
+
+	private static final Logger log = LoggerFactory.getLogger(MongoCommandProfiler.class);
+
+	private static final String[] QUERY_FIELDS = { "filter", "query", "sort", "pipeline" };
+
+	private static final String[] STATEMENT_FIELDS = { "updates", "deletes" };
+
+	private static final Comparator<MongoSlowCommand> BY_DURATION = Comparator.comparingDouble(MongoSlowCommand::getDurationMillis);
+
+	private final BoardsProperties.Profiling properties;
+
+	private final ConcurrentMap<Integer, StartedCommand> inFlight = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<String, MongoQueryShapeStats> shapes = new ConcurrentHashMap<>();
+
+	private final int slowCommandCapacity;
+
+	private final PriorityQueue<MongoSlowCommand> slowCommands = new PriorityQueue<>(BY_DURATION);
+
+	@Autowired
+	public MongoCommandProfiler(BoardsProperties properties) {
+		this.properties = properties.getProfiling();
+		this.slowCommandCapacity = Math.max(1, this.properties.getSlowCommandCapacity());
+	}
+
+	@Override
+	public void commandStarted(CommandStartedEvent event) {
+		inFlight.put(event.getRequestId(), new StartedCommand(shapeOf(event.getCommandName(), event.getCommand()), event.getDatabaseName()));
+	}
+
+	@Override
+	public void commandSucceeded(CommandSucceededEvent event) {
+		finish(event.getRequestId(), event.getCommandName(), event.getElapsedTime(TimeUnit.NANOSECONDS), documentsOf(event.getResponse()), false);
+	}
+
+	@Override
+	public void commandFailed(CommandFailedEvent event) {
+		finish(event.getRequestId(), event.getCommandName(), event.getElapsedTime(TimeUnit.NANOSECONDS), 0, true);
+	}
+
+	public List<MongoSlowCommand> getSlowestCommands() {
+		List<MongoSlowCommand> commands;
+		synchronized (slowCommands) {
+			commands = new ArrayList<>(slowCommands);
+		}
+		commands.sort(BY_DURATION.reversed());
+		return commands;
+	}
+
+	public List<MongoQueryShapeStats> getShapeStats() {
+		return shapes.values().stream()
+				.sorted(Comparator.comparingDouble(MongoQueryShapeStats::getTotalMillis).reversed())
+				.collect(Collectors.toList());
+	}
+
+	public long getSlowCommandThresholdMillis() {
+		return properties.getSlowCommandThresholdMillis();
+	}
+
+	private void finish(int requestId, String commandName, long elapsedNanos, long documents, boolean failed) {
+		StartedCommand started = inFlight.remove(requestId);
+		String shape = started != null ? started.shape : commandName;
+		boolean slow = elapsedNanos >= TimeUnit.MILLISECONDS.toNanos(properties.getSlowCommandThresholdMillis());
+		shapes.computeIfAbsent(shape, MongoQueryShapeStats::new).record(elapsedNanos, documents, failed, slow);
+		if (slow) {
+			double durationMillis = MongoQueryShapeStats.toMillis(elapsedNanos);
+			MongoSlowCommand command = new MongoSlowCommand(shape, started != null ? started.database : null,
+					durationMillis, documents, failed, new Date());
+			keepIfSlowest(command);
+			if (sampled()) {
+				log.warn("Slow Mongo command took {} ms and returned {} documents: {}", String.format("%.1f", durationMillis), documents, shape);
+			}
+		}
+	}
+
+	private void keepIfSlowest(MongoSlowCommand command) {
+		synchronized (slowCommands) {
+			if (slowCommands.size() < slowCommandCapacity) {
+				slowCommands.add(command);
+			} else if (BY_DURATION.compare(command, slowCommands.peek()) > 0) {
+				slowCommands.poll();
+				slowCommands.add(command);
+			}
+		}
+	}
+
+	private boolean sampled() {
+		double sampleRate = properties.getSlowCommandLogSampleRate();
+		return sampleRate >= 1 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+	}
+
+	static String shapeOf(String commandName, BsonDocument command) {
+		StringBuilder shape = new StringBuilder(commandName);
+		BsonValue collection = command.containsKey("collection") ? command.get("collection") : command.get(commandName);
+		if (collection != null && collection.isString()) {
+			shape.append(' ').append(collection.asString().getValue());
+		}
+		for (String field : QUERY_FIELDS) {
+			BsonValue value = command.get(field);
+			if (value != null) {
+				shape.append(' ').append(field).append('=');
+				appendShape(shape, value, "sort".equals(field));
+			}
+		}
+		for (String field : STATEMENT_FIELDS) {
+			BsonValue statements = command.get(field);
+			if (statements != null && statements.isArray() && !statements.asArray().isEmpty()) {
+				BsonValue statement = statements.asArray().get(0);
+				if (statement.isDocument() && statement.asDocument().containsKey("q")) {
+					shape.append(" q=");
+					appendShape(shape, statement.asDocument().get("q"), false);
+				}
+			}
+		}
+		return shape.toString();
+	}
+
+	static long documentsOf(BsonDocument reply) {
+		BsonValue cursor = reply.get("cursor");
+		if (cursor != null && cursor.isDocument()) {
+			BsonValue batch = cursor.asDocument().containsKey("firstBatch") ? cursor.asDocument().get("firstBatch")
+					: cursor.asDocument().get("nextBatch");
+			return batch != null && batch.isArray() ? batch.asArray().size() : 0;
+		}
+		BsonValue count = reply.get("n");
+		if (count != null && count.isNumber()) {
+			return count.asNumber().longValue();
+		}
+		BsonValue value = reply.get("value");
+		return value != null && value.isDocument() ? 1 : 0;
+	}
+
+	private static void appendShape(StringBuilder shape, BsonValue value, boolean keepValues) {
+		if (value.isDocument()) {
+			shape.append('{');
+			Iterator<Map.Entry<String, BsonValue>> fields = value.asDocument().entrySet().iterator();
+			while (fields.hasNext()) {
+				Map.Entry<String, BsonValue> field = fields.next();
+				shape.append(field.getKey()).append(": ");
+				appendShape(shape, field.getValue(), keepValues);
+				if (fields.hasNext()) {
+					shape.append(", ");
+				}
+			}
+			shape.append('}');
+		} else if (value.isArray()) {
+			appendArrayShape(shape, value.asArray(), keepValues);
+		} else if (value.isRegularExpression()) {
+			shape.append("/?/");
+		} else if (keepValues && value.isNumber()) {
+			shape.append(value.asNumber().intValue());
+		} else {
+			shape.append('?');
+		}
+	}
+
+	private static void appendArrayShape(StringBuilder shape, BsonArray array, boolean keepValues) {
+		if (array.isEmpty() || !array.get(0).isDocument()) {
+			shape.append("[?]");
+			return;
+		}
+		shape.append('[');
+		for (int index = 0; index < array.size(); index++) {
+			if (index > 0) {
+				shape.append(", ");
+			}
+			appendShape(shape, array.get(index), keepValues);
+		}
+		shape.append(']');
+	}
+
+	private static class StartedCommand {
+
+		private final String shape;
+
+		private final String database;
+
+		StartedCommand(String shape, String database) {
+			this.shape = shape;
+			this.database = database;
+		}
+	}
+}
@@ -0,0 +1,31 @@
+package com.taskboards.boards.domain;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.AbstractEndpoint;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "endpoints.mongoprofile")
+public class MongoProfileEndpoint extends AbstractEndpoint<Map<String, Object>> {
+
+	private final MongoCommandProfiler profiler;
+
+	@Autowired
+	public MongoProfileEndpoint(MongoCommandProfiler profiler) {
+		super("mongoprofile");
+		this.profiler = profiler;
+	}
+
+	@Override
+	public Map<String, Object> invoke() {
+		Map<String, Object> profile = new LinkedHashMap<>();
+		profile.put("slowCommandThresholdMillis", profiler.getSlowCommandThresholdMillis());
+		profile.put("slowestCommands", profiler.getSlowestCommands());
+		profile.put("shapes", profiler.getShapeStats());
+		return profile;
+	}
+}
@@ -0,0 +1,15 @@
+package com.taskboards.boards.domain;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.mongodb.MongoClientOptions;
+
+@Configuration
+public class MongoProfilingConfiguration {
+
+	@Bean
+	public MongoClientOptions mongoClientOptions(MongoCommandProfiler profiler) {
+		return MongoClientOptions.builder().addCommandListener(profiler).build();
+	}
+}
@@ -0,0 +1,75 @@
+package com.taskboards.boards.domain;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import lombok.Getter;
+
+public class MongoQueryShapeStats {
+
+	@Getter
+	private final String shape;
+
+	private final LongAdder count = new LongAdder();
+
+	private final LongAdder failures = new LongAdder();
+
+	private final LongAdder slow = new LongAdder();
+
+	private final LongAdder totalNanos = new LongAdder();
+
+	private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+	private final LongAdder documents = new LongAdder();
+
+	MongoQueryShapeStats(String shape) {
+		this.shape = shape;
+	}
+
+	void record(long elapsedNanos, long returnedDocuments, boolean failed, boolean slowCommand) {
+		count.increment();
+		totalNanos.add(elapsedNanos);
+		maxNanos.accumulate(elapsedNanos);
+		documents.add(returnedDocuments);
+		if (failed) {
+			failures.increment();
+		}
+		if (slowCommand) {
+			slow.increment();
+		}
+	}
+
+	public long getCount() {
+		return count.sum();
+	}
+
+	public long getFailures() {
+		return failures.sum();
+	}
+
+	public long getSlow() {
+		return slow.sum();
+	}
+
+	public long getDocuments() {
+		return documents.sum();
+	}
+
+	public double getTotalMillis() {
+		return toMillis(totalNanos.sum());
+	}
+
+	public double getMeanMillis() {
+		long commands = count.sum();
+		return commands == 0 ? 0 : toMillis(totalNanos.sum()) / commands;
+	}
+
+	public double getMaxMillis() {
+		return toMillis(maxNanos.get());
+	}
+
+	static double toMillis(long nanos) {
+		return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+	}
+}
@@ -0,0 +1,30 @@
+package com.taskboards.boards.domain;
+
+import java.util.Date;
+
+import lombok.Getter;
+
+@Getter
+public class MongoSlowCommand {
+
+	private final String shape;
+
+	private final String database;
+
+	private final double durationMillis;
+
+	private final long documents;
+
+	private final boolean failed;
+
+	private final Date finishedAt;
+
+	public MongoSlowCommand(String shape, String database, double durationMillis, long documents, boolean failed, Date finishedAt) {
+		this.shape = shape;
+		this.database = database;
+		this.durationMillis = durationMillis;
+		this.documents = documents;
+		this.failed = failed;
+		this.finishedAt = finishedAt;
+	}
+}
@@ -0,0 +1,182 @@
+package com.taskboards.boards.domain;
+
+import java.util.Date;
+
+import org.bson.types.ObjectId;
+import org.springframework.cache.Cache;
+import org.springframework.cache.Cache.ValueWrapper;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoExceptionTranslator;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.convert.UpdateMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.rx.client.FindObservable;
+import com.mongodb.rx.client.MongoCollection;
+import com.mongodb.rx.client.MongoDatabase;
+
+import rx.Observable;
+
+public class ReactiveBoardRepository {
+
+	private final MongoCollection<BasicDBObject> collection;
+
+	private final MongoConverter converter;
+
+	private final MongoPersistentEntity<?> entity;
+
+	private final QueryMapper queryMapper;
+
+	private final UpdateMapper updateMapper;
+
+	private final Cache cache;
+
+	private final ApplicationEventPublisher eventPublisher;
+
+	private final MongoExceptionTranslator exceptionTranslator = new MongoExceptionTranslator();
+
+	public ReactiveBoardRepository(MongoDatabase database, MongoOperations mongoOperations, CacheManager cacheManager,
+			ApplicationEventPublisher eventPublisher) {
+		this.collection = database.getCollection(mongoOperations.getCollectionName(Board.class), BasicDBObject.class);
+		this.converter = mongoOperations.getConverter();
+		this.entity = converter.getMappingContext().getPersistentEntity(Board.class);
+		this.queryMapper = new QueryMapper(converter);
+		this.updateMapper = new UpdateMapper(converter);
+		this.cache = cacheManager.getCache(BoardRepository.CACHE_NAME);
+		this.eventPublisher = eventPublisher;
+	}
+
+	public Observable<Board> findOne(String id) {
+		ValueWrapper cached = cache.get(id);
+		if (cached != null) {
+			return Observable.just((Board) cached.get());
+		}
+		return find(BoardQueries.byId(id)).first().map(this::toBoard).doOnNext(board -> cache.put(id, board));
+	}
+
+	public Observable<Board> findVersion(String id) {
+		ValueWrapper cached = cache.get(id);
+		if (cached != null) {
+			return Observable.just((Board) cached.get());
+		}
+		return find(BoardQueries.version(id)).first().map(this::toBoard);
+	}
+
+	public Observable<Board> findByNameStartsWithIgnoreCase(String name, BoardFields fields) {
+		return find(BoardQueries.project(BoardQueries.namePrefix(name), fields)).toObservable().map(this::toBoard);
+	}
+
+	public Observable<Long> countByNamePrefix(String namePrefix) {
+		return collection.count(toFilter(BoardQueries.nameFilter(namePrefix)));
+	}
+
+	public Observable<BoardPage> findPage(BoardPageRequest pageRequest, BoardFields fields) {
+		Query query = BoardQueries.project(BoardQueries.page(pageRequest), fields, pageRequest.getSortProperty().getProperty());
+		return find(query).toObservable().map(this::toBoard).toList()
+				.map(boards -> BoardQueries.toPage(boards, pageRequest));
+	}
+
+	public Observable<Board> streamAll(Sort sort, BoardFields fields) {
+		return find(BoardQueries.project(new Query().with(sort), fields)).toObservable().map(this::toBoard);
+	}
+
+	public Observable<Board> insert(Board board) {
+		Board inserted = new Board(board);
+		inserted.setId(inserted.getId() == null ? new ObjectId().toHexString() : inserted.getId());
+		inserted.setVersion(0L);
+		inserted.setLastModified(new Date());
+		BasicDBObject document = new BasicDBObject();
+		converter.write(inserted, document);
+		return collection.insertOne(document).map(success -> inserted)
+				.onErrorResumeNext(error -> Observable.error(translate(error)))
+				.doOnNext(created -> eventPublisher.publishEvent(BoardChange.saved(created)));
+	}
+
+	public Observable<Board> replace(String id, Board board) {
+		Query query = BoardQueries.versioned(id, board.getVersion());
+		Date lastModified = new Date();
+		return collection.findOneAndUpdate(toFilter(query), toUpdate(BoardQueries.replacement(board, lastModified)),
+				new FindOneAndUpdateOptions().returnDocument(ReturnDocument.BEFORE))
+				.map(this::toBoard)
+				.map(previous -> {
+					Board replaced = BoardQueries.replaced(previous, board, lastModified);
+					eventPublisher.publishEvent(BoardChange.updated(replaced, previous.getName()));
+					return replaced;
+				})
+				.switchIfEmpty(versionConflict(id, board.getVersion()))
+				.doOnTerminate(() -> cache.evict(id));
+	}
+
+	public Observable<Board> removeById(String id, Long version) {
+		return collection.findOneAndDelete(toFilter(BoardQueries.versioned(id, version)))
+				.map(this::toBoard)
+				.doOnNext(removed -> eventPublisher.publishEvent(BoardChange.removed(id)))
+				.switchIfEmpty(versionConflict(id, version))
+				.doOnTerminate(() -> cache.evict(id));
+	}
+
+	public Observable<BoardCollectionVersion> findCollectionVersion() {
+		Observable<Date> lastModified = find(BoardQueries.latestModification()).first()
+				.map(document -> toBoard(document).getLastModified())
+				.defaultIfEmpty(null);
+		return Observable.zip(collection.count(), lastModified, BoardCollectionVersion::new);
+	}
+
+	private FindObservable<BasicDBObject> find(Query query) {
+		FindObservable<BasicDBObject> find = collection.find(toFilter(query));
+		if (query.getSortObject() != null) {
+			find.sort(toBson(queryMapper.getMappedSort(query.getSortObject(), entity)));
+		}
+		if (query.getFieldsObject() != null) {
+			find.projection(toBson(queryMapper.getMappedFields(query.getFieldsObject(), entity)));
+		}
+		return query.getLimit() > 0 ? find.limit(query.getLimit()) : find;
+	}
+
+	private Throwable translate(Throwable error) {
+		if (error instanceof RuntimeException) {
+			DataAccessException translated = exceptionTranslator.translateExceptionIfPossible((RuntimeException) error);
+			if (translated != null) {
+				return translated;
+			}
+		}
+		return error;
+	}
+
+	private Observable<Board> versionConflict(String id, Long version) {
+		if (version == null) {
+			return Observable.empty();
+		}
+		return collection.count(toFilter(BoardQueries.byId(id))).flatMap(count -> count > 0
+				? Observable.error(new OptimisticLockingFailureException(String.format("Board %s is no longer at version %d", id, version)))
+				: Observable.empty());
+	}
+
+	private BasicDBObject toFilter(Query query) {
+		return toBson(queryMapper.getMappedObject(query.getQueryObject(), entity));
+	}
+
+	private BasicDBObject toUpdate(Update update) {
+		return toBson(updateMapper.getMappedObject(update.getUpdateObject(), entity));
+	}
+
+	private BasicDBObject toBson(DBObject document) {
+		return document instanceof BasicDBObject ? (BasicDBObject) document : new BasicDBObject(document.toMap());
+	}
+
+	private Board toBoard(BasicDBObject document) {
+		return converter.read(Board.class, document);
+	}
+}
@@ -0,0 +1,88 @@
+package com.taskboards.boards.domain;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.MongoOperations;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoClient;
+import com.mongodb.async.client.MongoClientSettings;
+import com.mongodb.connection.ClusterSettings;
+import com.mongodb.connection.ConnectionPoolSettings;
+import com.mongodb.connection.ServerSettings;
+import com.mongodb.connection.SocketSettings;
+import com.mongodb.connection.SslSettings;
+import com.mongodb.rx.client.MongoClients;
+import com.mongodb.rx.client.MongoDatabase;
+
+@Configuration
+@ConditionalOnProperty(prefix = "boards.api", name = "mode", havingValue = "non-blocking")
+public class ReactiveMongoConfiguration {
+
+	@Bean(destroyMethod = "close")
+	public com.mongodb.rx.client.MongoClient reactiveMongoClient(MongoProperties properties, MongoCommandProfiler profiler) {
+		ConnectionString connectionString = new ConnectionString(connectionString(properties));
+		MongoClientSettings.Builder settings = MongoClientSettings.builder()
+				.clusterSettings(ClusterSettings.builder().applyConnectionString(connectionString).build())
+				.connectionPoolSettings(ConnectionPoolSettings.builder().applyConnectionString(connectionString).build())
+				.serverSettings(ServerSettings.builder().applyConnectionString(connectionString).build())
+				.credentialList(connectionString.getCredentialList())
+				.sslSettings(SslSettings.builder().applyConnectionString(connectionString).build())
+				.socketSettings(SocketSettings.builder().applyConnectionString(connectionString).build())
+				.addCommandListener(profiler);
+		if (connectionString.getReadPreference() != null) {
+			settings.readPreference(connectionString.getReadPreference());
+		}
+		if (connectionString.getWriteConcern() != null) {
+			settings.writeConcern(connectionString.getWriteConcern());
+		}
+		if (connectionString.getReadConcern() != null) {
+			settings.readConcern(connectionString.getReadConcern());
+		}
+		return MongoClients.create(settings.build());
+	}
+
+	@Bean
+	public ReactiveBoardRepository reactiveBoardRepository(com.mongodb.rx.client.MongoClient reactiveMongoClient,
+			MongoProperties properties, MongoOperations mongoOperations, CacheManager cacheManager,
+			ApplicationEventPublisher eventPublisher) {
+		MongoDatabase database = reactiveMongoClient.getDatabase(properties.getMongoClientDatabase())
+				.withCodecRegistry(MongoClient.getDefaultCodecRegistry());
+		return new ReactiveBoardRepository(database, mongoOperations, cacheManager, eventPublisher);
+	}
+
+	static String connectionString(MongoProperties properties) {
+		if (properties.getUri() != null || properties.getHost() == null) {
+			return properties.determineUri();
+		}
+		int port = properties.getPort() == null ? MongoProperties.DEFAULT_PORT : properties.getPort();
+		StringBuilder uri = new StringBuilder("mongodb://");
+		if (properties.getUsername() != null) {
+			uri.append(escape(properties.getUsername()));
+			if (properties.getPassword() != null) {
+				uri.append(':').append(escape(new String(properties.getPassword())));
+			}
+			uri.append('@');
+		}
+		uri.append(properties.getHost()).append(':').append(port).append('/').append(properties.getMongoClientDatabase());
+		if (properties.getUsername() != null && properties.getAuthenticationDatabase() != null) {
+			uri.append("?authSource=").append(escape(properties.getAuthenticationDatabase()));
+		}
+		return uri.toString();
+	}
+
+	private static String escape(String value) {
+		try {
+			return URLEncoder.encode(value, "UTF-8");
+		} catch (UnsupportedEncodingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,45 @@
+package com.taskboards.boards.domain;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.UnaryOperator;
+
+class SingleFlight<K, V> {
+
+	interface Call<V> {
+
+		V call() throws Throwable;
+
+	}
+
+	private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+	V execute(K key, Call<V> call, Runnable onCoalesced, UnaryOperator<V> shared) throws Throwable {
+		CompletableFuture<V> flight = new CompletableFuture<>();
+		CompletableFuture<V> leader = inFlight.putIfAbsent(key, flight);
+		if (leader != null) {
+			onCoalesced.run();
+			try {
+				return shared.apply(leader.join());
+			} catch (CompletionException e) {
+				throw e.getCause();
+			}
+		}
+		try {
+			V result = call.call();
+			flight.complete(result);
+			return result;
+		} catch (Throwable error) {
+			flight.completeExceptionally(error);
+			throw error;
+		} finally {
+			inFlight.remove(key, flight);
+		}
+	}
+
+	int inFlight() {
+		return inFlight.size();
+	}
+}
@@ -0,0 +1,124 @@
+package com.taskboards.boards.web;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import javax.validation.Valid;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.taskboards.boards.BoardsProperties;
+import com.taskboards.boards.domain.Board;
+import com.taskboards.boards.domain.BoardFields;
+import com.taskboards.boards.domain.BoardPageRequest;
+
+@RestController
+@RequestMapping("/boards")
+@ConditionalOnProperty(prefix = "boards.api", name = "mode", havingValue = "async")
+public class AsyncBoardRestController {
+
+	@Autowired
+	BoardRequestHandler handler;
+
+	@Autowired
+	BoardsProperties properties;
+
+	@Autowired
+	BoardAsyncExecutor executor;
+
+	BoardResourceAssembler assembler = new BoardResourceAssembler();
+
+	@GetMapping
+	public CompletableFuture<ResponseEntity<List<BoardResource>>> getAll(@RequestParam(required = false) String after,
+			@RequestParam(required = false) String before, @RequestParam(required = false) Integer size,
+			@RequestParam(defaultValue = "id") String sort, @RequestParam(required = false) String fields,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+		BoardFields boardFields = BoardRequests.selectFields(fields);
+		BoardPageRequest pageRequest = BoardRequests.toPageRequest(after, before, size, sort, properties.getPage());
+		BoardResourceAssembler requestAssembler = assembler.forCurrentRequest();
+		UriComponentsBuilder currentRequest = ServletUriComponentsBuilder.fromCurrentRequest();
+		return executor.submit("list", () -> handler.getAll(pageRequest, boardFields, ifNoneMatch, requestAssembler, currentRequest));
+	}
+
+	@GetMapping(params = "stream=true")
+	public ResponseEntity<StreamingResponseBody> streamAll(@RequestParam(defaultValue = "id") String sort,
+			@RequestParam(required = false) String fields) {
+		return handler.streamAll(BoardRequests.toSort(sort), BoardRequests.selectFields(fields), assembler.forCurrentRequest());
+	}
+
+	@RequestMapping(method = RequestMethod.HEAD)
+	public CompletableFuture<ResponseEntity<Void>> headAll(@RequestParam(required = false) String after,
+			@RequestParam(required = false) String before, @RequestParam(required = false) Integer size,
+			@RequestParam(defaultValue = "id") String sort,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+		BoardPageRequest pageRequest = BoardRequests.toHeadPageRequest(after, before, size, sort, properties.getPage());
+		UriComponentsBuilder currentRequest = ServletUriComponentsBuilder.fromCurrentRequest();
+		return executor.submit("list", () -> handler.headAll(pageRequest, ifNoneMatch, currentRequest));
+	}
+
+	@GetMapping("/count")
+	public CompletableFuture<ResponseEntity<Map<String, Long>>> count(@RequestParam(required = false) String name) {
+		return executor.submit("count", () -> handler.count(name));
+	}
+
+	@GetMapping("/name={name}")
+	public CompletableFuture<ResponseEntity<List<BoardResource>>> findByNome(@PathVariable String name,
+			@RequestParam(required = false) String fields) {
+		BoardFields boardFields = BoardRequests.selectFields(fields);
+		BoardResourceAssembler requestAssembler = assembler.forCurrentRequest();
+		return executor.submit("search", () -> handler.findByName(name, boardFields, requestAssembler));
+	}
+
+	@GetMapping("/{id}")
+	public CompletableFuture<ResponseEntity<BoardResource>> get(@PathVariable String id,
+			@RequestParam(required = false) String fields,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+		BoardRequests.selectFields(fields);
+		BoardResourceAssembler requestAssembler = assembler.forCurrentRequest();
+		return executor.submit("get", () -> handler.get(id, ifNoneMatch, requestAssembler));
+	}
+
+	@RequestMapping(path = "/{id}", method = RequestMethod.HEAD)
+	public CompletableFuture<ResponseEntity<Void>> head(@PathVariable String id,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+		return executor.submit("get", () -> handler.head(id, ifNoneMatch));
+	}
+
+	@PostMapping
+	public CompletableFuture<ResponseEntity<BoardResource>> create(@Valid @RequestBody Board board) {
+		BoardResourceAssembler requestAssembler = assembler.forCurrentRequest();
+		return executor.submit("create", () -> handler.create(board, requestAssembler));
+	}
+
+	@PutMapping("/{id}")
+	public CompletableFuture<ResponseEntity<BoardResource>> update(@PathVariable String id, @Valid @RequestBody Board board,
+			@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+		BoardResourceAssembler requestAssembler = assembler.forCurrentRequest();
+		return executor.submit("update", () -> handler.update(id, board, ifMatch, requestAssembler));
+	}
+
+	@DeleteMapping("/{id}")
+	public CompletableFuture<ResponseEntity<BoardResource>> delete(@PathVariable String id,
+			@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+		BoardResourceAssembler requestAssembler = assembler.forCurrentRequest();
+		return executor.submit("delete", () -> handler.delete(id, ifMatch, requestAssembler));
+	}
+}
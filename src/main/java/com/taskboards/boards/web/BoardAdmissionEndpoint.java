@@ -0,0 +1,28 @@
+package com.taskboards.boards.web;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.AbstractEndpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(prefix = "boards.admission", name = "enabled", havingValue = "true", matchIfMissing = true)
+@ConfigurationProperties(prefix = "endpoints.boardadmission")
+public class BoardAdmissionEndpoint extends AbstractEndpoint<Map<String, Object>> {
+
+	private final BoardAdmissionFilter admissionFilter;
+
+	@Autowired
+	public BoardAdmissionEndpoint(BoardAdmissionFilter admissionFilter) {
+		super("boardadmission");
+		this.admissionFilter = admissionFilter;
+	}
+
+	@Override
+	public Map<String, Object> invoke() {
+		return admissionFilter.getStatus();
+	}
+}
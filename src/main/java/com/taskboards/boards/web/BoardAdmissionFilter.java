@@ -0,0 +1,163 @@
+package com.taskboards.boards.web;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
+
+import com.taskboards.boards.BoardsProperties;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+@Component
+@ConditionalOnProperty(prefix = "boards.admission", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class BoardAdmissionFilter extends OncePerRequestFilter {
+
+	public static final String METRIC_NAME = "boards.admission";
+
+	private static final UrlPathHelper PATH_HELPER = new UrlPathHelper();
+
+	private static final Set<String> BULK_PATHS = new HashSet<>(Arrays.asList("/boards/export", "/boards/import", "/boards/batch"));
+
+	private final BoardConcurrencyLimit reads;
+
+	private final BoardConcurrencyLimit writes;
+
+	private final BoardConcurrencyLimit bulk;
+
+	@Autowired
+	public BoardAdmissionFilter(BoardsProperties properties, MeterRegistry registry) {
+		BoardsProperties.Admission admission = properties.getAdmission();
+		this.reads = new BoardConcurrencyLimit(admission.getReads(), admission.getBackoffRatio());
+		this.writes = new BoardConcurrencyLimit(admission.getWrites(), admission.getBackoffRatio());
+		this.bulk = new BoardConcurrencyLimit(admission.getBulk(), admission.getBackoffRatio());
+		register(registry, "read", reads);
+		register(registry, "write", writes);
+		register(registry, "bulk", bulk);
+	}
+
+	public Map<String, Object> getStatus() {
+		Map<String, Object> status = new LinkedHashMap<>();
+		status.put("reads", reads.getStatus());
+		status.put("writes", writes.getStatus());
+		status.put("bulk", bulk.getStatus());
+		return status;
+	}
+
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		String path = PATH_HELPER.getPathWithinApplication(request);
+		return !path.equals("/boards") && !path.startsWith("/boards/");
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		BoardConcurrencyLimit limit = isBulk(request) ? bulk : isRead(request) ? reads : writes;
+		if (!limit.tryAcquire()) {
+			response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+			response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value());
+			return;
+		}
+		long start = System.nanoTime();
+		try {
+			filterChain.doFilter(request, response);
+		} catch (IOException | ServletException | RuntimeException e) {
+			limit.release(System.nanoTime() - start, true);
+			throw e;
+		}
+		if (request.isAsyncStarted()) {
+			request.getAsyncContext().addListener(new Release(limit, start, response));
+		} else {
+			limit.release(System.nanoTime() - start, isOverloaded(response));
+		}
+	}
+
+	private static boolean isBulk(HttpServletRequest request) {
+		String path = PATH_HELPER.getPathWithinApplication(request);
+		if (BULK_PATHS.contains(path)) {
+			return true;
+		}
+		return path.equals("/boards") && isRead(request) && "true".equals(request.getParameter("stream"));
+	}
+
+	private static boolean isRead(HttpServletRequest request) {
+		HttpMethod method = HttpMethod.resolve(request.getMethod());
+		return method == HttpMethod.GET || method == HttpMethod.HEAD || method == HttpMethod.OPTIONS;
+	}
+
+	private static boolean isOverloaded(HttpServletResponse response) {
+		return response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+	}
+
+	private static void register(MeterRegistry registry, String type, BoardConcurrencyLimit limit) {
+		registry.gauge(METRIC_NAME + ".limit", Tags.of("type", type), limit, BoardConcurrencyLimit::getLimit);
+		registry.gauge(METRIC_NAME + ".in.flight", Tags.of("type", type), limit, BoardConcurrencyLimit::getInFlight);
+		FunctionCounter.builder(METRIC_NAME + ".rejected", limit, BoardConcurrencyLimit::getRejected).tag("type", type)
+				.register(registry);
+	}
+
+	private static final class Release implements AsyncListener {
+
+		private final BoardConcurrencyLimit limit;
+
+		private final long start;
+
+		private final HttpServletResponse response;
+
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		private Release(BoardConcurrencyLimit limit, long start, HttpServletResponse response) {
+			this.limit = limit;
+			this.start = start;
+			this.response = response;
+		}
+
+		@Override
+		public void onComplete(AsyncEvent event) {
+			release(isOverloaded(response));
+		}
+
+		@Override
+		public void onTimeout(AsyncEvent event) {
+			release(true);
+		}
+
+		@Override
+		public void onError(AsyncEvent event) {
+			release(true);
+		}
+
+		@Override
+		public void onStartAsync(AsyncEvent event) {
+			event.getAsyncContext().addListener(this);
+		}
+
+		private void release(boolean overloaded) {
+			if (released.compareAndSet(false, true)) {
+				limit.release(System.nanoTime() - start, overloaded);
+			}
+		}
+	}
+}
@@ -0,0 +1,136 @@
+package com.taskboards.boards.web;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import com.taskboards.boards.BoardsProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+@Component
+@ConditionalOnProperty(prefix = "boards.api", name = "mode", havingValue = "async")
+public class BoardAsyncExecutor implements DisposableBean {
+
+	public static final String METRIC_NAME = "boards.async";
+
+	private static final Logger log = LoggerFactory.getLogger(BoardAsyncExecutor.class);
+
+	private final BoardsProperties.Async properties;
+
+	private final MeterRegistry registry;
+
+	private final ExecutorService executor;
+
+	private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+	@Autowired
+	public BoardAsyncExecutor(BoardsProperties properties, MeterRegistry registry) {
+		this.properties = properties.getAsync();
+		this.registry = registry;
+		this.executor = createExecutor(this.properties);
+		if (executor instanceof ThreadPoolExecutor) {
+			ThreadPoolExecutor pool = (ThreadPoolExecutor) executor;
+			registry.gauge(METRIC_NAME + ".queued", pool, candidate -> candidate.getQueue().size());
+			registry.gauge(METRIC_NAME + ".active", pool, ThreadPoolExecutor::getActiveCount);
+		}
+	}
+
+	public <T> CompletableFuture<ResponseEntity<T>> submit(String endpointName, Supplier<ResponseEntity<T>> call) {
+		Endpoint endpoint = endpoints.computeIfAbsent(endpointName, this::endpoint);
+		if (!endpoint.permits.tryAcquire()) {
+			return rejected(endpoint);
+		}
+		CompletableFuture<ResponseEntity<T>> result = new CompletableFuture<>();
+		long submitted = System.nanoTime();
+		try {
+			executor.execute(() -> {
+				endpoint.queueWait.record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+				try {
+					result.complete(call.get());
+				} catch (RuntimeException | Error e) {
+					result.completeExceptionally(e);
+				} finally {
+					endpoint.permits.release();
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			endpoint.permits.release();
+			return rejected(endpoint);
+		}
+		return result;
+	}
+
+	@Override
+	public void destroy() throws InterruptedException {
+		executor.shutdown();
+		executor.awaitTermination(10, TimeUnit.SECONDS);
+	}
+
+	private Endpoint endpoint(String name) {
+		int limit = properties.getEndpointConcurrency().getOrDefault(name, properties.getDefaultEndpointConcurrency());
+		Endpoint endpoint = new Endpoint(new Semaphore(limit),
+				Counter.builder(METRIC_NAME + ".rejected").tag("endpoint", name).register(registry),
+				Timer.builder(METRIC_NAME + ".queue.wait").tag("endpoint", name).register(registry));
+		registry.gauge(METRIC_NAME + ".in.flight", Tags.of("endpoint", name), endpoint.permits,
+				permits -> limit - permits.availablePermits());
+		return endpoint;
+	}
+
+	private static <T> CompletableFuture<ResponseEntity<T>> rejected(Endpoint endpoint) {
+		endpoint.rejected.increment();
+		return CompletableFuture.completedFuture(
+				ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").<T>build());
+	}
+
+	private static ExecutorService createExecutor(BoardsProperties.Async properties) {
+		if (properties.isVirtualThreads()) {
+			try {
+				return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+			} catch (ReflectiveOperationException e) {
+				log.warn("This runtime has no virtual threads, falling back to a pool of {} threads", properties.getThreads());
+			}
+		}
+		AtomicInteger threadNumber = new AtomicInteger();
+		return new ThreadPoolExecutor(properties.getThreads(), properties.getThreads(), 60, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+				runnable -> new Thread(runnable, "board-async-" + threadNumber.incrementAndGet()));
+	}
+
+	private static final class Endpoint {
+
+		private final Semaphore permits;
+
+		private final Counter rejected;
+
+		private final Timer queueWait;
+
+		private Endpoint(Semaphore permits, Counter rejected, Timer queueWait) {
+			this.permits = permits;
+			this.rejected = rejected;
+			this.queueWait = queueWait;
+		}
+	}
+}
@@ -0,0 +1,10 @@
+package com.taskboards.boards.web;
+
+class BoardBadRequestException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	BoardBadRequestException(IllegalArgumentException cause) {
+		super(cause.getMessage(), cause);
+	}
+}
@@ -0,0 +1,198 @@
+package com.taskboards.boards.web;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.taskboards.boards.BoardsProperties;
+import com.taskboards.boards.domain.Board;
+import com.taskboards.boards.domain.BoardOperation;
+import com.taskboards.boards.domain.BoardOperationResult;
+import com.taskboards.boards.domain.BoardOperationResult.Outcome;
+import com.taskboards.boards.domain.BoardRepository;
+
+@RestController
+@RequestMapping("/boards/batch")
+public class BoardBatchRestController {
+
+	static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+	@Autowired
+	BoardRepository repository;
+
+	@Autowired
+	BoardsProperties properties;
+
+	@Autowired
+	Validator validator;
+
+	@Autowired
+	ObjectMapper objectMapper;
+
+	@PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<List<BoardBatchResult>> batch(@RequestBody List<BoardOperation> operations,
+			@RequestParam(defaultValue = "true") boolean ordered) {
+		return ResponseEntity.ok(execute(operations.stream().map(BatchLine::new).iterator(), ordered));
+	}
+
+	@PostMapping(consumes = APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<List<BoardBatchResult>> batchLines(InputStream operations,
+			@RequestParam(defaultValue = "true") boolean ordered) throws IOException {
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(operations, StandardCharsets.UTF_8))) {
+			return ResponseEntity.ok(execute(new BatchLines(reader, objectMapper.readerFor(BoardOperation.class)), ordered));
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	private List<BoardBatchResult> execute(Iterator<BatchLine> lines, boolean ordered) {
+		List<BoardOperationResult> results = new ArrayList<>();
+		List<BoardOperation> chunk = new ArrayList<>();
+		boolean failed = false;
+		int index = 0;
+		while (lines.hasNext()) {
+			BatchLine line = lines.next();
+			BoardOperation operation = line.operation;
+			operation.setIndex(index++);
+			if (failed && ordered) {
+				results.add(BoardOperationResult.failed(operation, Outcome.SKIPPED, "A previous operation of the ordered batch failed"));
+				continue;
+			}
+			String violation = line.malformed != null ? line.malformed : validate(operation);
+			if (violation != null) {
+				failed |= write(chunk, ordered, results);
+				results.add(BoardOperationResult.failed(operation, Outcome.INVALID, violation));
+				failed = true;
+				continue;
+			}
+			chunk.add(operation);
+			if (chunk.size() == properties.getBatch().getChunkSize()) {
+				failed |= write(chunk, ordered, results);
+			}
+		}
+		write(chunk, ordered, results);
+
+		List<BoardBatchResult> response = new ArrayList<>(results.size());
+		results.stream().sorted((first, second) -> Integer.compare(first.getIndex(), second.getIndex()))
+				.forEach(result -> response.add(new BoardBatchResult(result)));
+		return response;
+	}
+
+	private boolean write(List<BoardOperation> chunk, boolean ordered, List<BoardOperationResult> results) {
+		if (chunk.isEmpty()) {
+			return false;
+		}
+		List<BoardOperationResult> written = repository.bulkWrite(new ArrayList<>(chunk), ordered);
+		chunk.clear();
+		results.addAll(written);
+		return written.stream().anyMatch(result -> !result.isSuccessful());
+	}
+
+	private String validate(BoardOperation operation) {
+		if (operation.getOp() == null) {
+			return "op must be one of create, update or delete";
+		}
+		if (operation.getOp() != BoardOperation.Type.CREATE && operation.getId() == null) {
+			return "id may not be empty";
+		}
+		if (operation.getOp() == BoardOperation.Type.DELETE) {
+			return null;
+		}
+		if (operation.getBoard() == null) {
+			return "board may not be empty";
+		}
+		Set<ConstraintViolation<Board>> violations = validator.validate(operation.getBoard());
+		if (violations.isEmpty()) {
+			return null;
+		}
+		ConstraintViolation<Board> violation = violations.iterator().next();
+		return violation.getPropertyPath() + " " + violation.getMessage();
+	}
+
+	private static final class BatchLine {
+
+		final BoardOperation operation;
+
+		final String malformed;
+
+		BatchLine(BoardOperation operation) {
+			this.operation = operation;
+			this.malformed = null;
+		}
+
+		BatchLine(String malformed) {
+			this.operation = new BoardOperation();
+			this.malformed = malformed;
+		}
+	}
+
+	private static final class BatchLines implements Iterator<BatchLine> {
+
+		private final BufferedReader reader;
+
+		private final ObjectReader operationReader;
+
+		private String next;
+
+		BatchLines(BufferedReader reader, ObjectReader operationReader) {
+			this.reader = reader;
+			this.operationReader = operationReader;
+		}
+
+		@Override
+		public boolean hasNext() {
+			try {
+				while (next == null) {
+					String line = reader.readLine();
+					if (line == null) {
+						return false;
+					}
+					next = line.trim().isEmpty() ? null : line;
+				}
+				return true;
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		@Override
+		public BatchLine next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			String line = next;
+			next = null;
+			try {
+				BoardOperation operation = operationReader.readValue(line);
+				return operation == null ? new BatchLine("Malformed line: expected an operation") : new BatchLine(operation);
+			} catch (JsonProcessingException e) {
+				return new BatchLine("Malformed line: " + e.getOriginalMessage());
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+}
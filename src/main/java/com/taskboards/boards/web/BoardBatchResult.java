@@ -0,0 +1,55 @@
+package com.taskboards.boards.web;
+
+import org.springframework.http.HttpStatus;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.taskboards.boards.domain.BoardOperation;
+import com.taskboards.boards.domain.BoardOperationResult;
+
+import lombok.Getter;
+
+@Getter
+@JsonInclude(Include.NON_NULL)
+public class BoardBatchResult {
+
+	private final int index;
+
+	private final BoardOperation.Type op;
+
+	private final String id;
+
+	private final Long version;
+
+	private final int status;
+
+	private final String error;
+
+	public BoardBatchResult(BoardOperationResult result) {
+		this.index = result.getIndex();
+		this.op = result.getOp();
+		this.id = result.getId();
+		this.version = result.getVersion();
+		this.status = toStatus(result.getOutcome()).value();
+		this.error = result.getError();
+	}
+
+	private static HttpStatus toStatus(BoardOperationResult.Outcome outcome) {
+		switch (outcome) {
+		case CREATED:
+			return HttpStatus.CREATED;
+		case UPDATED:
+		case DELETED:
+			return HttpStatus.OK;
+		case INVALID:
+		case NOT_FOUND:
+			return HttpStatus.UNPROCESSABLE_ENTITY;
+		case CONFLICT:
+			return HttpStatus.CONFLICT;
+		case SKIPPED:
+			return HttpStatus.FAILED_DEPENDENCY;
+		default:
+			return HttpStatus.INTERNAL_SERVER_ERROR;
+		}
+	}
+}
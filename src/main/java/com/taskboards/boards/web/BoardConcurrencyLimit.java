@@ -0,0 +1,81 @@
+package com.taskboards.boards.web;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.taskboards.boards.BoardsProperties;
+
+class BoardConcurrencyLimit {
+
+	private final int minLimit;
+
+	private final int maxLimit;
+
+	private final long latencyThresholdNanos;
+
+	private final double backoffRatio;
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	private final LongAdder rejected = new LongAdder();
+
+	private volatile double limit;
+
+	BoardConcurrencyLimit(BoardsProperties.Admission.Limit properties, double backoffRatio) {
+		this.minLimit = properties.getMinLimit();
+		this.maxLimit = properties.getMaxLimit();
+		this.latencyThresholdNanos = TimeUnit.MILLISECONDS.toNanos(properties.getLatencyThresholdMillis());
+		this.backoffRatio = backoffRatio;
+		this.limit = Math.max(minLimit, Math.min(maxLimit, properties.getInitialLimit()));
+	}
+
+	boolean tryAcquire() {
+		while (true) {
+			int current = inFlight.get();
+			if (current >= getLimit()) {
+				rejected.increment();
+				return false;
+			}
+			if (inFlight.compareAndSet(current, current + 1)) {
+				return true;
+			}
+		}
+	}
+
+	void release(long latencyNanos, boolean overloaded) {
+		int concurrent = inFlight.getAndDecrement();
+		synchronized (this) {
+			if (overloaded || latencyNanos > latencyThresholdNanos) {
+				limit = Math.max(minLimit, limit * backoffRatio);
+			} else if (concurrent * 2 >= limit) {
+				limit = Math.min(maxLimit, limit + 1);
+			}
+		}
+	}
+
+	int getLimit() {
+		return (int) limit;
+	}
+
+	int getInFlight() {
+		return inFlight.get();
+	}
+
+	long getRejected() {
+		return rejected.sum();
+	}
+
+	Map<String, Object> getStatus() {
+		Map<String, Object> status = new LinkedHashMap<>();
+		status.put("limit", getLimit());
+		status.put("inFlight", getInFlight());
+		status.put("rejected", getRejected());
+		status.put("minLimit", minLimit);
+		status.put("maxLimit", maxLimit);
+		status.put("latencyThresholdMillis", TimeUnit.NANOSECONDS.toMillis(latencyThresholdNanos));
+		return status;
+	}
+}
@@ -0,0 +1,74 @@
+package com.taskboards.boards.web;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
+
+import com.taskboards.boards.domain.Board;
+import com.taskboards.boards.domain.BoardCollectionVersion;
+
+class BoardETags {
+
+	static final String ANY = "*";
+
+	private static final String WEAK_PREFIX = "W/";
+
+	private BoardETags() {
+	}
+
+	static String of(Board board) {
+		if (board.getVersion() != null) {
+			return weak(board.getVersion().toString());
+		}
+		String content = board.getId() + '\n' + board.getName() + '\n' + board.getDescription();
+		return weak("h" + DigestUtils.md5DigestAsHex(content.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	static String of(BoardCollectionVersion collectionVersion) {
+		long lastModified = collectionVersion.getLastModified() == null ? 0 : collectionVersion.getLastModified().getTime();
+		return weak(collectionVersion.getCount() + "-" + lastModified);
+	}
+
+	static boolean matches(String ifNoneMatch, String eTag) {
+		if (ifNoneMatch == null) {
+			return false;
+		}
+		String opaqueTag = opaqueTag(eTag);
+		for (String candidate : StringUtils.commaDelimitedListToStringArray(ifNoneMatch)) {
+			String candidateTag = candidate.trim();
+			if (ANY.equals(candidateTag) || opaqueTag(candidateTag).equals(opaqueTag)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	static boolean matchesAny(String ifMatch) {
+		return ANY.equals(ifMatch.trim());
+	}
+
+	static Long versionOf(String ifMatch) {
+		String[] eTags = StringUtils.commaDelimitedListToStringArray(ifMatch);
+		if (eTags.length != 1) {
+			return null;
+		}
+		String eTag = opaqueTag(eTags[0].trim());
+		if (eTag.length() < 3 || !eTag.startsWith("\"") || !eTag.endsWith("\"")) {
+			return null;
+		}
+		try {
+			return Long.valueOf(eTag.substring(1, eTag.length() - 1));
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	private static String opaqueTag(String eTag) {
+		return eTag.startsWith(WEAK_PREFIX) ? eTag.substring(WEAK_PREFIX.length()) : eTag;
+	}
+
+	private static String weak(String value) {
+		return WEAK_PREFIX + '"' + value + '"';
+	}
+}
@@ -0,0 +1,25 @@
+package com.taskboards.boards.web;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.taskboards.boards.domain.BoardFields;
+
+final class BoardFieldFilters {
+
+	static final String FILTER_ID = "boardFields";
+
+	private BoardFieldFilters() {
+	}
+
+	static FilterProvider forFields(BoardFields fields) {
+		SimpleBeanPropertyFilter filter = fields.isAll() ? SimpleBeanPropertyFilter.serializeAll()
+				: SimpleBeanPropertyFilter.filterOutAllExcept(fields.getNames());
+		return new SimpleFilterProvider().addFilter(FILTER_ID, filter);
+	}
+
+	@JsonFilter(FILTER_ID)
+	interface BoardMixin {
+	}
+}
@@ -0,0 +1,50 @@
+package com.taskboards.boards.web;
+
+import java.util.Collection;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import com.taskboards.boards.domain.BoardFields;
+
+@ControllerAdvice
+public class BoardFieldsResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+
+	static final String FIELDS_ATTRIBUTE = BoardFieldsResponseBodyAdvice.class.getName() + ".fields";
+
+	@Override
+	public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+		return AbstractJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+	}
+
+	@Override
+	public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType contentType,
+			Class<? extends HttpMessageConverter<?>> converterType, ServerHttpRequest request, ServerHttpResponse response) {
+		if (!isBoardBody(body) || !(request instanceof ServletServerHttpRequest)) {
+			return body;
+		}
+		Object fields = ((ServletServerHttpRequest) request).getServletRequest().getAttribute(FIELDS_ATTRIBUTE);
+		if (!(fields instanceof BoardFields) || ((BoardFields) fields).isAll()) {
+			return body;
+		}
+		MappingJacksonValue container = new MappingJacksonValue(body);
+		container.setFilters(BoardFieldFilters.forFields((BoardFields) fields));
+		return container;
+	}
+
+	private static boolean isBoardBody(Object body) {
+		if (body instanceof BoardResource) {
+			return true;
+		}
+		return body instanceof Collection && !((Collection<?>) body).isEmpty()
+				&& ((Collection<?>) body).iterator().next() instanceof BoardResource;
+	}
+}
@@ -0,0 +1,131 @@
+package com.taskboards.boards.web;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.taskboards.boards.domain.Board;
+import com.taskboards.boards.domain.BoardRepository;
+
+class BoardImport {
+
+	static final int MAX_REPORTED_ERRORS = 100;
+
+	private final BoardRepository repository;
+
+	private final Validator validator;
+
+	private final int chunkSize;
+
+	private final int parallelism;
+
+	private final Semaphore pendingChunks;
+
+	private final AtomicLong imported = new AtomicLong();
+
+	private final AtomicLong rejected = new AtomicLong();
+
+	private final List<BoardImportError> errors = new ArrayList<>();
+
+	private boolean malformed;
+
+	BoardImport(BoardRepository repository, Validator validator, int chunkSize, int parallelism) {
+		this.repository = repository;
+		this.validator = validator;
+		this.chunkSize = chunkSize;
+		this.parallelism = parallelism;
+		this.pendingChunks = new Semaphore(parallelism);
+	}
+
+	BoardImportResult run(MappingIterator<Board> lines) throws InterruptedException {
+		long start = System.nanoTime();
+		ExecutorService writers = Executors.newFixedThreadPool(parallelism);
+		try {
+			List<Board> chunk = new ArrayList<>(chunkSize);
+			int firstLine = 0;
+			int line = 0;
+			try {
+				while (lines.hasNextValue()) {
+					line++;
+					Board board = lines.nextValue();
+					String violation = validate(board);
+					if (violation != null) {
+						reject(line, 1, violation);
+						continue;
+					}
+					if (chunk.isEmpty()) {
+						firstLine = line;
+					}
+					chunk.add(board);
+					if (chunk.size() == chunkSize) {
+						write(writers, chunk, firstLine);
+						chunk = new ArrayList<>(chunkSize);
+					}
+				}
+			} catch (JsonProcessingException e) {
+				malformed = true;
+				reject(e.getLocation() == null ? line : e.getLocation().getLineNr(), 1, "Malformed line: " + e.getOriginalMessage());
+			} catch (IOException e) {
+				malformed = true;
+				reject(line + 1, 1, "Unreadable line: " + e.getMessage());
+			}
+			write(writers, chunk, firstLine);
+		} finally {
+			writers.shutdown();
+			writers.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+			repository.importFinished();
+		}
+		synchronized (errors) {
+			return new BoardImportResult(imported.get(), rejected.get(), new ArrayList<>(errors), System.nanoTime() - start);
+		}
+	}
+
+	boolean isMalformed() {
+		return malformed;
+	}
+
+	private void write(ExecutorService writers, List<Board> chunk, int firstLine) throws InterruptedException {
+		if (chunk.isEmpty()) {
+			return;
+		}
+		pendingChunks.acquire();
+		writers.execute(() -> {
+			try {
+				imported.addAndGet(repository.importBoards(chunk));
+			} catch (RuntimeException e) {
+				reject(firstLine, chunk.size(), "The chunk starting at this line was not written: " + e.getMessage());
+			} finally {
+				pendingChunks.release();
+			}
+		});
+	}
+
+	private void reject(int line, int rows, String error) {
+		rejected.addAndGet(rows);
+		synchronized (errors) {
+			if (errors.size() < MAX_REPORTED_ERRORS) {
+				errors.add(new BoardImportError(line, error));
+			}
+		}
+	}
+
+	private String validate(Board board) {
+		Set<ConstraintViolation<Board>> violations = validator.validate(board);
+		if (violations.isEmpty()) {
+			return null;
+		}
+		ConstraintViolation<Board> violation = violations.iterator().next();
+		return violation.getPropertyPath() + " " + violation.getMessage();
+	}
+}
@@ -0,0 +1,16 @@
+package com.taskboards.boards.web;
+
+import lombok.Getter;
+
+@Getter
+public class BoardImportError {
+
+	private final int line;
+
+	private final String error;
+
+	public BoardImportError(int line, String error) {
+		this.line = line;
+		this.error = error;
+	}
+}
@@ -0,0 +1,27 @@
+package com.taskboards.boards.web;
+
+import java.util.List;
+
+import lombok.Getter;
+
+@Getter
+public class BoardImportResult {
+
+	private final long imported;
+
+	private final long rejected;
+
+	private final List<BoardImportError> errors;
+
+	private final long elapsedMillis;
+
+	private final long rowsPerSecond;
+
+	public BoardImportResult(long imported, long rejected, List<BoardImportError> errors, long elapsedNanos) {
+		this.imported = imported;
+		this.rejected = rejected;
+		this.errors = errors;
+		this.elapsedMillis = elapsedNanos / 1_000_000;
+		this.rowsPerSecond = elapsedNanos == 0 ? 0 : Math.round(imported * 1e9 / elapsedNanos);
+	}
+}
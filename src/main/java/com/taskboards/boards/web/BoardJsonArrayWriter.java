@@ -0,0 +1,42 @@
+package com.taskboards.boards.web;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+
+class BoardJsonArrayWriter {
+
+	private final JsonGenerator generator;
+
+	private final ObjectWriter writer;
+
+	private BoardJsonArrayWriter(JsonGenerator generator, ObjectWriter writer) {
+		this.generator = generator;
+		this.writer = writer;
+	}
+
+	static BoardJsonArrayWriter start(ObjectMapper objectMapper, FilterProvider filters, OutputStream output) throws IOException {
+		JsonGenerator generator = objectMapper.getFactory().createGenerator(output)
+				.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+		generator.writeStartArray();
+		return new BoardJsonArrayWriter(generator, objectMapper.writer(filters).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE));
+	}
+
+	void write(BoardResource resource) throws IOException {
+		writer.writeValue(generator, resource);
+	}
+
+	void flush() throws IOException {
+		generator.flush();
+	}
+
+	void finish() throws IOException {
+		generator.writeEndArray();
+		generator.close();
+	}
+}
@@ -0,0 +1,174 @@
+package com.taskboards.boards.web;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskboards.boards.domain.Board;
+import com.taskboards.boards.domain.BoardCollectionVersion;
+import com.taskboards.boards.domain.BoardFields;
+import com.taskboards.boards.domain.BoardPage;
+import com.taskboards.boards.domain.BoardPageRequest;
+import com.taskboards.boards.domain.BoardRepository;
+import com.taskboards.boards.domain.BoardWriteBehind;
+
+@Component
+class BoardRequestHandler {
+
+	@Autowired
+	BoardRepository repository;
+
+	@Autowired
+	ObjectMapper objectMapper;
+
+	@Autowired(required = false)
+	BoardWriteBehind writeBehind;
+
+	ResponseEntity<List<BoardResource>> getAll(BoardPageRequest pageRequest, BoardFields fields, String ifNoneMatch,
+			BoardResourceAssembler assembler, UriComponentsBuilder currentRequest) {
+		String eTag = BoardETags.of(repository.findCollectionVersion());
+		if (BoardETags.matches(ifNoneMatch, eTag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+		}
+		BoardPage page = repository.findPage(pageRequest, fields);
+		if (page.isEmpty()) {
+			return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+		}
+		HttpHeaders headers = BoardRequests.pageLinks(page, currentRequest);
+		headers.setETag(eTag);
+		return new ResponseEntity<>(assembler.toResources(page.getContent()), headers, HttpStatus.OK);
+	}
+
+	ResponseEntity<StreamingResponseBody> streamAll(Sort sort, BoardFields fields, BoardResourceAssembler assembler) {
+		StreamingResponseBody body = output -> writeBoards(repository.streamAll(sort, fields), fields, assembler, output);
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON_UTF8).body(body);
+	}
+
+	ResponseEntity<Void> headAll(BoardPageRequest pageRequest, String ifNoneMatch, UriComponentsBuilder currentRequest) {
+		BoardCollectionVersion version = repository.findCollectionVersion();
+		String eTag = BoardETags.of(version);
+		if (BoardETags.matches(ifNoneMatch, eTag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+		}
+		if (pageRequest == null) {
+			return BoardRequests.collectionHead(eTag, version.getCount());
+		}
+		BoardPage page = repository.findPage(pageRequest, BoardRequests.HEAD_FIELDS);
+		return BoardRequests.pageHead(page, eTag, version.getCount(), currentRequest);
+	}
+
+	ResponseEntity<Map<String, Long>> count(String name) {
+		return BoardRequests.count(repository.countByNamePrefix(name));
+	}
+
+	ResponseEntity<List<BoardResource>> findByName(String name, BoardFields fields, BoardResourceAssembler assembler) {
+		List<Board> boards = repository.findByNameStartsWithIgnoreCase(name, fields);
+		if (!boards.isEmpty()) {
+			return new ResponseEntity<>(assembler.toResources(boards), HttpStatus.OK);
+		} else {
+			return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+		}
+	}
+
+	ResponseEntity<BoardResource> get(String id, String ifNoneMatch, BoardResourceAssembler assembler) {
+		Board board = repository.findOne(id);
+		if (board == null) {
+			return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+		}
+		String eTag = BoardETags.of(board);
+		if (BoardETags.matches(ifNoneMatch, eTag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+		}
+		return ResponseEntity.ok().eTag(eTag).body(assembler.toResource(board));
+	}
+
+	ResponseEntity<Void> head(String id, String ifNoneMatch) {
+		Board board = repository.findVersion(id);
+		if (board != null && board.getVersion() == null) {
+			board = repository.findOne(id);
+		}
+		if (board == null) {
+			return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+		}
+		return BoardRequests.boardHead(board, ifNoneMatch);
+	}
+
+	ResponseEntity<BoardResource> create(Board board, BoardResourceAssembler assembler) {
+		if (writeBehind != null) {
+			return BoardRequests.writeBehind(writeBehind, board, assembler);
+		}
+		board.setVersion(null);
+		Board created = repository.save(board);
+		if (created != null) {
+			return ResponseEntity.ok().eTag(BoardETags.of(created)).body(assembler.toResource(created));
+		} else {
+			return new ResponseEntity<>(HttpStatus.UNPROCESSABLE_ENTITY);
+		}
+	}
+
+	ResponseEntity<BoardResource> update(String id, Board board, String ifMatch, BoardResourceAssembler assembler) {
+		if (BoardRequests.hasVersionPrecondition(ifMatch)) {
+			board.setVersion(BoardETags.versionOf(ifMatch));
+			if (board.getVersion() == null) {
+				return new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED);
+			}
+		}
+		Board updatedBoard;
+		try {
+			updatedBoard = repository.replace(id, board);
+		} catch (OptimisticLockingFailureException e) {
+			return new ResponseEntity<>(BoardRequests.versionConflictStatus(ifMatch));
+		}
+		if (updatedBoard != null) {
+			return ResponseEntity.ok().eTag(BoardETags.of(updatedBoard)).body(assembler.toResource(updatedBoard));
+		} else {
+			return new ResponseEntity<>(BoardRequests.missingBoardStatus(ifMatch));
+		}
+	}
+
+	ResponseEntity<BoardResource> delete(String id, String ifMatch, BoardResourceAssembler assembler) {
+		Long version = null;
+		if (BoardRequests.hasVersionPrecondition(ifMatch)) {
+			version = BoardETags.versionOf(ifMatch);
+			if (version == null) {
+				return new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED);
+			}
+		}
+		Board board;
+		try {
+			board = repository.removeById(id, version);
+		} catch (OptimisticLockingFailureException e) {
+			return new ResponseEntity<>(BoardRequests.versionConflictStatus(ifMatch));
+		}
+		if (board != null) {
+			return new ResponseEntity<>(assembler.toResource(board), HttpStatus.OK);
+		} else {
+			return new ResponseEntity<>(BoardRequests.missingBoardStatus(ifMatch));
+		}
+	}
+
+	private void writeBoards(CloseableIterator<Board> boards, BoardFields fields, BoardResourceAssembler assembler,
+			OutputStream output) throws IOException {
+		try (CloseableIterator<Board> cursor = boards) {
+			BoardJsonArrayWriter writer = BoardJsonArrayWriter.start(objectMapper, BoardFieldFilters.forFields(fields), output);
+			while (cursor.hasNext()) {
+				writer.write(assembler.toResource(cursor.next()));
+			}
+			writer.finish();
+		}
+	}
+}
@@ -0,0 +1,151 @@
+package com.taskboards.boards.web;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.Map;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.hateoas.Link;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.taskboards.boards.BoardsProperties;
+import com.taskboards.boards.domain.Board;
+import com.taskboards.boards.domain.BoardCursor;
+import com.taskboards.boards.domain.BoardFields;
+import com.taskboards.boards.domain.BoardPage;
+import com.taskboards.boards.domain.BoardPageRequest;
+import com.taskboards.boards.domain.BoardSortProperty;
+import com.taskboards.boards.domain.BoardWriteBehind;
+
+final class BoardRequests {
+
+	static final String TOTAL_COUNT = "X-Total-Count";
+
+	static final BoardFields HEAD_FIELDS = BoardFields.of("id");
+
+	private BoardRequests() {
+	}
+
+	static BoardPageRequest toHeadPageRequest(String after, String before, Integer size, String sort,
+			BoardsProperties.Page page) {
+		if (after == null && before == null && size == null) {
+			return null;
+		}
+		return toPageRequest(after, before, size, sort, page);
+	}
+
+	static ResponseEntity<Void> collectionHead(String eTag, long count) {
+		if (count == 0) {
+			return ResponseEntity.status(HttpStatus.NOT_FOUND).header(TOTAL_COUNT, String.valueOf(count)).build();
+		}
+		return ResponseEntity.ok().eTag(eTag).header(TOTAL_COUNT, String.valueOf(count)).build();
+	}
+
+	static ResponseEntity<Void> boardHead(Board board, String ifNoneMatch) {
+		String eTag = BoardETags.of(board);
+		if (BoardETags.matches(ifNoneMatch, eTag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+		}
+		return ResponseEntity.ok().eTag(eTag).build();
+	}
+
+	static ResponseEntity<Void> pageHead(BoardPage page, String eTag, long count, UriComponentsBuilder currentRequest) {
+		if (page.isEmpty()) {
+			return ResponseEntity.status(HttpStatus.NOT_FOUND).header(TOTAL_COUNT, String.valueOf(count)).build();
+		}
+		HttpHeaders headers = pageLinks(page, currentRequest);
+		headers.setETag(eTag);
+		headers.set(TOTAL_COUNT, String.valueOf(count));
+		return new ResponseEntity<>(headers, HttpStatus.OK);
+	}
+
+	static ResponseEntity<Map<String, Long>> count(long count) {
+		return ResponseEntity.ok(Collections.singletonMap("count", count));
+	}
+
+	static boolean hasVersionPrecondition(String ifMatch) {
+		return ifMatch != null && !BoardETags.matchesAny(ifMatch);
+	}
+
+	static HttpStatus versionConflictStatus(String ifMatch) {
+		return ifMatch != null ? HttpStatus.PRECONDITION_FAILED : HttpStatus.CONFLICT;
+	}
+
+	static HttpStatus missingBoardStatus(String ifMatch) {
+		return ifMatch != null ? HttpStatus.PRECONDITION_FAILED : HttpStatus.UNPROCESSABLE_ENTITY;
+	}
+
+	static ResponseEntity<BoardResource> writeBehind(BoardWriteBehind writeBehind, Board board, BoardResourceAssembler assembler) {
+		Board accepted = writeBehind.offer(board);
+		if (accepted == null) {
+			return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, "1").build();
+		}
+		BoardResource resource = assembler.toResource(accepted);
+		return ResponseEntity.accepted().location(URI.create(resource.getId().getHref())).eTag(BoardETags.of(accepted)).body(resource);
+	}
+
+	static BoardPageRequest toPageRequest(String after, String before, Integer size, String sort, BoardsProperties.Page page) {
+		int pageSize = size == null ? page.getDefaultSize() : Math.min(size, page.getMaxSize());
+		try {
+			return new BoardPageRequest(toSortProperty(sort), toDirection(sort), decodeCursor(after), decodeCursor(before), pageSize);
+		} catch (IllegalArgumentException e) {
+			throw new BoardBadRequestException(e);
+		}
+	}
+
+	static Sort toSort(String sort) {
+		try {
+			return BoardPageRequest.sortFor(toSortProperty(sort), toDirection(sort));
+		} catch (IllegalArgumentException e) {
+			throw new BoardBadRequestException(e);
+		}
+	}
+
+	static BoardFields selectFields(String fields) {
+		BoardFields boardFields;
+		try {
+			boardFields = BoardFields.parse(fields);
+		} catch (IllegalArgumentException e) {
+			throw new BoardBadRequestException(e);
+		}
+		RequestContextHolder.currentRequestAttributes().setAttribute(BoardFieldsResponseBodyAdvice.FIELDS_ATTRIBUTE,
+				boardFields, RequestAttributes.SCOPE_REQUEST);
+		return boardFields;
+	}
+
+	static HttpHeaders pageLinks(BoardPage page, UriComponentsBuilder currentRequest) {
+		HttpHeaders headers = new HttpHeaders();
+		if (page.getNext() != null) {
+			headers.add(HttpHeaders.LINK, pageLink(currentRequest, "after", page.getNext(), Link.REL_NEXT).toString());
+		}
+		if (page.getPrevious() != null) {
+			headers.add(HttpHeaders.LINK, pageLink(currentRequest, "before", page.getPrevious(), Link.REL_PREVIOUS).toString());
+		}
+		return headers;
+	}
+
+	private static BoardSortProperty toSortProperty(String sort) {
+		return BoardSortProperty.fromProperty(sort.split(",")[0]);
+	}
+
+	private static Direction toDirection(String sort) {
+		String[] sortParts = sort.split(",");
+		return sortParts.length > 1 ? Direction.fromString(sortParts[1]) : Direction.ASC;
+	}
+
+	private static BoardCursor decodeCursor(String token) {
+		return token == null ? null : BoardCursor.decode(token);
+	}
+
+	private static Link pageLink(UriComponentsBuilder currentRequest, String cursorParameter, BoardCursor cursor, String rel) {
+		String href = currentRequest.cloneBuilder().replaceQueryParam("after").replaceQueryParam("before")
+				.replaceQueryParam(cursorParameter, cursor.encode()).build().toUriString();
+		return new Link(href, rel);
+	}
+}
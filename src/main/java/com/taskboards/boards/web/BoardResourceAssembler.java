@@ -1,25 +1,90 @@
 package com.taskboards.boards.web;
 
 import static org.springframework.hateoas.mvc.ControllerLinkBuilder.linkTo;
-import static org.springframework.hateoas.mvc.ControllerLinkBuilder.methodOn;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.hateoas.Link;
 import org.springframework.hateoas.mvc.ResourceAssemblerSupport;
+import org.springframework.web.util.UriComponentsBuilder;
 
 import com.taskboards.boards.domain.Board;
 
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
 public class BoardResourceAssembler extends ResourceAssemblerSupport<Board, BoardResource> {
-	
+
+	public static final String METRIC_NAME = "boards.assembler";
+
+	private static final Timer TO_RESOURCE_TIMER = Metrics.timer(METRIC_NAME, "operation", "toResource");
+
+	private static final Timer TO_RESOURCES_TIMER = Metrics.timer(METRIC_NAME, "operation", "toResources");
+
+	private final String boardsHref;
+
 	public BoardResourceAssembler() {
+		this(null);
+	}
+
+	private BoardResourceAssembler(String boardsHref) {
 		super(Board.class, BoardResource.class);
+		this.boardsHref = boardsHref;
+	}
+
+	public BoardResourceAssembler forCurrentRequest() {
+		return new BoardResourceAssembler(boardsHref());
 	}
 
 	@Override
 	public BoardResource toResource(Board board) {
-		return new BoardResource(board, linkTo(methodOn(BoardRestController.class).get(board.getId())).withSelfRel());
+		return TO_RESOURCE_TIMER.record(() -> toResource(board, boardsHref()));
 	}
-	
+
+	@Override
+	public List<BoardResource> toResources(Iterable<? extends Board> boards) {
+		return TO_RESOURCES_TIMER.record(() -> assemble(boards));
+	}
+
+	private List<BoardResource> assemble(Iterable<? extends Board> boards) {
+		String boardsHref = boardsHref();
+		List<BoardResource> resources = new ArrayList<>();
+		for (Board board : boards) {
+			resources.add(toResource(board, boardsHref));
+		}
+		return resources;
+	}
+
 	@Override
 	protected BoardResource instantiateResource(Board board) {
 		return new BoardResource(board);
 	}
+
+	private BoardResource toResource(Board board, String boardsHref) {
+		String id = board.getId();
+		if (isUnreserved(id)) {
+			return new BoardResource(board, new Link(boardsHref + '/' + id));
+		}
+		return new BoardResource(board, new Link(UriComponentsBuilder.fromUriString(boardsHref + "/{id}").buildAndExpand(id).encode().toUriString()));
+	}
+
+	private String boardsHref() {
+		return boardsHref != null ? boardsHref : linkTo(BoardRestController.class).toString();
+	}
+
+	private static boolean isUnreserved(String id) {
+		if (id == null || id.isEmpty()) {
+			return false;
+		}
+		for (int index = 0; index < id.length(); index++) {
+			char c = id.charAt(index);
+			boolean unreserved = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+					|| c == '-' || c == '.' || c == '_' || c == '~';
+			if (!unreserved) {
+				return false;
+			}
+		}
+		return true;
+	}
 }
\ No newline at end of file
@@ -1,101 +1,109 @@
 package com.taskboards.boards.web;
 
 import java.util.List;
+import java.util.Map;
 
 import javax.validation.Valid;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.HttpStatus;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.DeleteMapping;
-import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import com.taskboards.boards.BoardsProperties;
 import com.taskboards.boards.domain.Board;
-import com.taskboards.boards.domain.BoardRepository;
+import com.taskboards.boards.domain.BoardFields;
+import com.taskboards.boards.domain.BoardPageRequest;
 
 @RestController
 @RequestMapping("/boards")
+@ConditionalOnProperty(prefix = "boards.api", name = "mode", havingValue = "blocking", matchIfMissing = true)
 public class BoardRestController {
 
 	@Autowired
-	BoardRepository repository;
+	BoardRequestHandler handler;
+
+	@Autowired
+	BoardsProperties properties;
 
 	BoardResourceAssembler assembler = new BoardResourceAssembler();
 
 	@GetMapping
-	public ResponseEntity<List<BoardResource>> getAll() {
-		List<Board> boards = repository.findAll();
-		if (!boards.isEmpty()) {
-			return new ResponseEntity<>(assembler.toResources(boards), HttpStatus.OK);
-		} else {
-			return new ResponseEntity<>(HttpStatus.NOT_FOUND);
-		}
+	public ResponseEntity<List<BoardResource>> getAll(@RequestParam(required = false) String after,
+			@RequestParam(required = false) String before, @RequestParam(required = false) Integer size,
+			@RequestParam(defaultValue = "id") String sort, @RequestParam(required = false) String fields,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+		BoardFields boardFields = BoardRequests.selectFields(fields);
+		BoardPageRequest pageRequest = BoardRequests.toPageRequest(after, before, size, sort, properties.getPage());
+		return handler.getAll(pageRequest, boardFields, ifNoneMatch, assembler, ServletUriComponentsBuilder.fromCurrentRequest());
+	}
+
+	@GetMapping(params = "stream=true")
+	public ResponseEntity<StreamingResponseBody> streamAll(@RequestParam(defaultValue = "id") String sort,
+			@RequestParam(required = false) String fields) {
+		return handler.streamAll(BoardRequests.toSort(sort), BoardRequests.selectFields(fields), assembler.forCurrentRequest());
+	}
+
+	@RequestMapping(method = RequestMethod.HEAD)
+	public ResponseEntity<Void> headAll(@RequestParam(required = false) String after,
+			@RequestParam(required = false) String before, @RequestParam(required = false) Integer size,
+			@RequestParam(defaultValue = "id") String sort,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+		BoardPageRequest pageRequest = BoardRequests.toHeadPageRequest(after, before, size, sort, properties.getPage());
+		return handler.headAll(pageRequest, ifNoneMatch, ServletUriComponentsBuilder.fromCurrentRequest());
+	}
+
+	@GetMapping("/count")
+	public ResponseEntity<Map<String, Long>> count(@RequestParam(required = false) String name) {
+		return handler.count(name);
 	}
 
 	@GetMapping("/name={name}")
-	public ResponseEntity<List<BoardResource>> findByNome(@PathVariable String name) {
-		List<Board> boards = repository.findByNameStartsWithIgnoreCase(name);
-		if (!boards.isEmpty()) {
-			return new ResponseEntity<>(assembler.toResources(boards), HttpStatus.OK);
-		} else {
-			return new ResponseEntity<>(HttpStatus.NOT_FOUND);
-		}
+	public ResponseEntity<List<BoardResource>> findByNome(@PathVariable String name,
+			@RequestParam(required = false) String fields) {
+		return handler.findByName(name, BoardRequests.selectFields(fields), assembler);
 	}
 
 	@GetMapping("/{id}")
-	public ResponseEntity<BoardResource> get(@PathVariable String id) {
-		Board board = repository.findOne(id);
-		if (board != null) {
-			return new ResponseEntity<>(assembler.toResource(board), HttpStatus.OK);
-		} else {
-			return new ResponseEntity<>(HttpStatus.NOT_FOUND);
-		}
+	public ResponseEntity<BoardResource> get(@PathVariable String id, @RequestParam(required = false) String fields,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+		BoardRequests.selectFields(fields);
+		return handler.get(id, ifNoneMatch, assembler);
+	}
+
+	@RequestMapping(path = "/{id}", method = RequestMethod.HEAD)
+	public ResponseEntity<Void> head(@PathVariable String id,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+		return handler.head(id, ifNoneMatch);
 	}
 
 	@PostMapping
 	public ResponseEntity<BoardResource> create(@Valid @RequestBody Board board) {
-		board = repository.save(board);
-		if (board != null) {
-			return new ResponseEntity<>(assembler.toResource(board), HttpStatus.OK);
-		} else {
-			return new ResponseEntity<>(HttpStatus.UNPROCESSABLE_ENTITY);
-		}
+		return handler.create(board, assembler);
 	}
 
 	@PutMapping("/{id}")
-	public ResponseEntity<BoardResource> update(@PathVariable String id, @Valid @RequestBody Board board) {
-		Board persistedBoard = repository.findOne(id); 
-		if (board != null && persistedBoard != null) {
-			board.setId(id);
-			board = repository.save(board);
-			return new ResponseEntity<>(assembler.toResource(board), HttpStatus.OK);
-		} else {
-			return new ResponseEntity<>(HttpStatus.UNPROCESSABLE_ENTITY);
-		}
+	public ResponseEntity<BoardResource> update(@PathVariable String id, @Valid @RequestBody Board board,
+			@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+		return handler.update(id, board, ifMatch, assembler);
 	}
 
 	@DeleteMapping("/{id}")
-	public ResponseEntity<BoardResource> delete(@PathVariable String id) {
-		Board board = repository.findOne(id);
-		if (board != null) {
-			repository.delete(board);
-			return new ResponseEntity<>(assembler.toResource(board), HttpStatus.OK);
-		} else {
-			return new ResponseEntity<>(HttpStatus.UNPROCESSABLE_ENTITY);
-		}
-	}
-
-	@ExceptionHandler(MethodArgumentNotValidException.class)
-	public ResponseEntity<BoardResource> handleMethodArgumentNotValidException(MethodArgumentNotValidException error) {
-		System.out.println(error.getMessage());
-		return new ResponseEntity<>(HttpStatus.UNPROCESSABLE_ENTITY);
+	public ResponseEntity<BoardResource> delete(@PathVariable String id,
+			@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+		return handler.delete(id, ifMatch, assembler);
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,35 @@
+package com.taskboards.boards.web;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@RestControllerAdvice(assignableTypes = { BoardRestController.class, NonBlockingBoardRestController.class,
+		AsyncBoardRestController.class, BoardTransferRestController.class })
+public class BoardRestExceptionHandler {
+
+	@ExceptionHandler(BoardBadRequestException.class)
+	public ResponseEntity<BoardResource> handleBadRequestException(BoardBadRequestException error) {
+		return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+	}
+
+	@ExceptionHandler(DuplicateKeyException.class)
+	public ResponseEntity<BoardResource> handleDuplicateKeyException(DuplicateKeyException error) {
+		return new ResponseEntity<>(HttpStatus.CONFLICT);
+	}
+
+	@ExceptionHandler(TaskRejectedException.class)
+	public ResponseEntity<BoardResource> handleTaskRejectedException(TaskRejectedException error) {
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").build();
+	}
+
+	@ExceptionHandler(MethodArgumentNotValidException.class)
+	public ResponseEntity<BoardResource> handleMethodArgumentNotValidException(MethodArgumentNotValidException error) {
+		return new ResponseEntity<>(HttpStatus.UNPROCESSABLE_ENTITY);
+	}
+}
@@ -0,0 +1,104 @@
+package com.taskboards.boards.web;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.taskboards.boards.domain.Board;
+
+import rx.Subscriber;
+
+class BoardStreamSubscriber extends Subscriber<Board> {
+
+	private final ResponseBodyEmitter emitter;
+
+	private final ObjectMapper objectMapper;
+
+	private final FilterProvider filters;
+
+	private final Function<List<Board>, List<BoardResource>> assembler;
+
+	private final int batchSize;
+
+	private final List<Board> batch;
+
+	private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+	private BoardJsonArrayWriter writer;
+
+	BoardStreamSubscriber(ResponseBodyEmitter emitter, ObjectMapper objectMapper, FilterProvider filters,
+			Function<List<Board>, List<BoardResource>> assembler, int batchSize) {
+		this.emitter = emitter;
+		this.objectMapper = objectMapper;
+		this.filters = filters;
+		this.assembler = assembler;
+		this.batchSize = batchSize;
+		this.batch = new ArrayList<>(batchSize);
+		emitter.onTimeout(this::unsubscribe);
+		emitter.onCompletion(this::unsubscribe);
+	}
+
+	@Override
+	public void onStart() {
+		request(batchSize);
+	}
+
+	@Override
+	public void onNext(Board board) {
+		batch.add(board);
+		if (batch.size() == batchSize) {
+			if (send(false)) {
+				request(batchSize);
+			}
+		}
+	}
+
+	@Override
+	public void onCompleted() {
+		if (send(true)) {
+			emitter.complete();
+		}
+	}
+
+	@Override
+	public void onError(Throwable error) {
+		emitter.completeWithError(error);
+	}
+
+	private boolean send(boolean last) {
+		try {
+			emitter.send(serialize(last), MediaType.APPLICATION_JSON_UTF8);
+			return true;
+		} catch (IOException | RuntimeException e) {
+			unsubscribe();
+			emitter.completeWithError(e);
+			return false;
+		} finally {
+			batch.clear();
+		}
+	}
+
+	private byte[] serialize(boolean last) throws IOException {
+		if (writer == null) {
+			writer = BoardJsonArrayWriter.start(objectMapper, filters, buffer);
+		}
+		for (BoardResource resource : assembler.apply(batch)) {
+			writer.write(resource);
+		}
+		if (last) {
+			writer.finish();
+		} else {
+			writer.flush();
+		}
+		byte[] bytes = buffer.toByteArray();
+		buffer.reset();
+		return bytes;
+	}
+}
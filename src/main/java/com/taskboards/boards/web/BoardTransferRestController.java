@@ -0,0 +1,96 @@
+package com.taskboards.boards.web;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import javax.validation.Validator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskboards.boards.BoardsProperties;
+import com.taskboards.boards.domain.Board;
+import com.taskboards.boards.domain.BoardRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+
+@RestController
+@RequestMapping("/boards")
+public class BoardTransferRestController {
+
+	private static final Logger log = LoggerFactory.getLogger(BoardTransferRestController.class);
+
+	private static final Counter EXPORTED_ROWS = Metrics.counter("boards.transfer.rows", "direction", "export");
+
+	private static final Counter IMPORTED_ROWS = Metrics.counter("boards.transfer.rows", "direction", "import");
+
+	@Autowired
+	BoardRepository repository;
+
+	@Autowired
+	BoardsProperties properties;
+
+	@Autowired
+	Validator validator;
+
+	@Autowired
+	ObjectMapper objectMapper;
+
+	@GetMapping("/export")
+	public ResponseEntity<StreamingResponseBody> exportBoards() {
+		StreamingResponseBody body = this::writeBoards;
+		return ResponseEntity.ok().contentType(MediaType.valueOf(BoardBatchRestController.APPLICATION_NDJSON_VALUE)).body(body);
+	}
+
+	@PostMapping(value = "/import", consumes = BoardBatchRestController.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<BoardImportResult> importBoards(InputStream lines) throws IOException, InterruptedException {
+		BoardImport boardImport = new BoardImport(repository, validator, properties.getBatch().getChunkSize(),
+				properties.getBatch().getImportParallelism());
+		BoardImportResult result;
+		try (MappingIterator<Board> boards = objectMapper.readerFor(Board.class).readValues(lines)) {
+			result = boardImport.run(boards);
+		}
+		IMPORTED_ROWS.increment(result.getImported());
+		log.info("Imported {} boards ({} rejected) in {} ms, {} rows/s", result.getImported(), result.getRejected(),
+				result.getElapsedMillis(), result.getRowsPerSecond());
+		return new ResponseEntity<>(result, boardImport.isMalformed() ? HttpStatus.BAD_REQUEST : HttpStatus.OK);
+	}
+
+	private void writeBoards(OutputStream output) throws IOException {
+		long start = System.nanoTime();
+		long rows = 0;
+		ObjectWriter writer = objectMapper.writerFor(Board.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+				.withRootValueSeparator("");
+		try (CloseableIterator<Board> cursor = repository.streamAll(new Sort("id"))) {
+			JsonGenerator generator = objectMapper.getFactory().createGenerator(output).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			while (cursor.hasNext()) {
+				writer.writeValue(generator, cursor.next());
+				generator.writeRaw('\n');
+				rows++;
+			}
+			generator.close();
+		}
+		long elapsedNanos = System.nanoTime() - start;
+		EXPORTED_ROWS.increment(rows);
+		log.info("Exported {} boards in {} ms, {} rows/s", rows, elapsedNanos / 1_000_000,
+				elapsedNanos == 0 ? 0 : Math.round(rows * 1e9 / elapsedNanos));
+	}
+}
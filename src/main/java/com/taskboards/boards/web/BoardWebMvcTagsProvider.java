@@ -0,0 +1,45 @@
+package com.taskboards.boards.web;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.spring.web.servlet.DefaultWebMvcTagsProvider;
+
+@Component
+public class BoardWebMvcTagsProvider extends DefaultWebMvcTagsProvider {
+
+	@Override
+	public Iterable<Tag> httpRequestTags(HttpServletRequest request, HttpServletResponse response, Object handler, Throwable ex) {
+		return Tags.of(super.httpRequestTags(request, response, handler, ex))
+				.and(handler(handler), outcome(response, ex));
+	}
+
+	@Override
+	public Iterable<Tag> httpLongRequestTags(HttpServletRequest request, Object handler) {
+		return Tags.of(super.httpLongRequestTags(request, handler)).and(handler(handler));
+	}
+
+	private static Tag handler(Object handler) {
+		if (handler instanceof HandlerMethod) {
+			return Tag.of("handler", ((HandlerMethod) handler).getMethod().getName());
+		}
+		return Tag.of("handler", "none");
+	}
+
+	private static Tag outcome(HttpServletResponse response, Throwable ex) {
+		if (ex != null) {
+			return Tag.of("outcome", "SERVER_ERROR");
+		}
+		try {
+			return Tag.of("outcome", HttpStatus.Series.valueOf(response.getStatus()).name());
+		} catch (IllegalArgumentException e) {
+			return Tag.of("outcome", "UNKNOWN");
+		}
+	}
+}
@@ -0,0 +1,36 @@
+package com.taskboards.boards.web;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+class JacksonBinaryHttpMessageConverter extends AbstractJackson2HttpMessageConverter {
+
+	static final MediaType APPLICATION_CBOR = MediaType.valueOf("application/cbor");
+
+	static final MediaType APPLICATION_SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+	private JacksonBinaryHttpMessageConverter(ObjectMapper objectMapper, MediaType mediaType) {
+		super(objectMapper, mediaType);
+		setDefaultCharset(null);
+	}
+
+	static JacksonBinaryHttpMessageConverter cbor(Jackson2ObjectMapperBuilder builder) {
+		return new JacksonBinaryHttpMessageConverter(mapper(builder, new CBORFactory()), APPLICATION_CBOR);
+	}
+
+	static JacksonBinaryHttpMessageConverter smile(Jackson2ObjectMapperBuilder builder) {
+		return new JacksonBinaryHttpMessageConverter(mapper(builder, new SmileFactory()), APPLICATION_SMILE);
+	}
+
+	private static ObjectMapper mapper(Jackson2ObjectMapperBuilder builder, JsonFactory factory) {
+		ObjectMapper objectMapper = new ObjectMapper(factory);
+		builder.configure(objectMapper);
+		return objectMapper;
+	}
+}
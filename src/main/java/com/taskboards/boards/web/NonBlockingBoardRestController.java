@@ -0,0 +1,218 @@
+package com.taskboards.boards.web;
+
+import java.util.List;
+import java.util.Map;
+
+import javax.validation.Valid;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskboards.boards.BoardsProperties;
+import com.taskboards.boards.domain.Board;
+import com.taskboards.boards.domain.BoardFields;
+import com.taskboards.boards.domain.BoardPageRequest;
+import com.taskboards.boards.domain.BoardWriteBehind;
+import com.taskboards.boards.domain.ReactiveBoardRepository;
+
+import rx.Observable;
+import rx.Scheduler;
+import rx.Single;
+
+@RestController
+@RequestMapping("/boards")
+@ConditionalOnProperty(prefix = "boards.api", name = "mode", havingValue = "non-blocking")
+public class NonBlockingBoardRestController {
+
+	@Autowired
+	ReactiveBoardRepository repository;
+
+	@Autowired
+	BoardsProperties properties;
+
+	@Autowired
+	ObjectMapper objectMapper;
+
+	@Autowired(required = false)
+	BoardWriteBehind writeBehind;
+
+	@Autowired
+	Scheduler boardStreamScheduler;
+
+	BoardResourceAssembler assembler = new BoardResourceAssembler();
+
+	@GetMapping
+	public Single<ResponseEntity<List<BoardResource>>> getAll(@RequestParam(required = false) String after,
+			@RequestParam(required = false) String before, @RequestParam(required = false) Integer size,
+			@RequestParam(defaultValue = "id") String sort, @RequestParam(required = false) String fields,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+		BoardFields boardFields = BoardRequests.selectFields(fields);
+		BoardPageRequest pageRequest = BoardRequests.toPageRequest(after, before, size, sort, properties.getPage());
+		BoardResourceAssembler requestAssembler = assembler.forCurrentRequest();
+		UriComponentsBuilder currentRequest = ServletUriComponentsBuilder.fromCurrentRequest();
+		return repository.findCollectionVersion().map(BoardETags::of).flatMap(eTag -> {
+			if (BoardETags.matches(ifNoneMatch, eTag)) {
+				return Observable.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).<List<BoardResource>>build());
+			}
+			return repository.findPage(pageRequest, boardFields).map(page -> {
+				if (page.isEmpty()) {
+					return new ResponseEntity<List<BoardResource>>(HttpStatus.NOT_FOUND);
+				}
+				HttpHeaders headers = BoardRequests.pageLinks(page, currentRequest);
+				headers.setETag(eTag);
+				List<BoardResource> resources = requestAssembler.toResources(page.getContent());
+				return new ResponseEntity<>(resources, headers, HttpStatus.OK);
+			});
+		}).toSingle();
+	}
+
+	@GetMapping(params = "stream=true")
+	public ResponseEntity<ResponseBodyEmitter> streamAll(@RequestParam(defaultValue = "id") String sort,
+			@RequestParam(required = false) String fields) {
+		Sort order = BoardRequests.toSort(sort);
+		BoardFields boardFields = BoardRequests.selectFields(fields);
+		BoardResourceAssembler requestAssembler = assembler.forCurrentRequest();
+		int batchSize = properties.getApi().getStreamBatchSize();
+		ResponseBodyEmitter emitter = new ResponseBodyEmitter(properties.getApi().getStreamTimeoutMillis());
+		repository.streamAll(order, boardFields).observeOn(boardStreamScheduler, batchSize).subscribe(new BoardStreamSubscriber(
+				emitter, objectMapper, BoardFieldFilters.forFields(boardFields), requestAssembler::toResources, batchSize));
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON_UTF8).body(emitter);
+	}
+
+	@RequestMapping(method = RequestMethod.HEAD)
+	public Single<ResponseEntity<Void>> headAll(@RequestParam(required = false) String after,
+			@RequestParam(required = false) String before, @RequestParam(required = false) Integer size,
+			@RequestParam(defaultValue = "id") String sort,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+		BoardPageRequest pageRequest = BoardRequests.toHeadPageRequest(after, before, size, sort, properties.getPage());
+		UriComponentsBuilder currentRequest = ServletUriComponentsBuilder.fromCurrentRequest();
+		return repository.findCollectionVersion().flatMap(version -> {
+			String eTag = BoardETags.of(version);
+			if (BoardETags.matches(ifNoneMatch, eTag)) {
+				return Observable.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).<Void>build());
+			}
+			if (pageRequest == null) {
+				return Observable.just(BoardRequests.collectionHead(eTag, version.getCount()));
+			}
+			return repository.findPage(pageRequest, BoardRequests.HEAD_FIELDS)
+					.map(page -> BoardRequests.pageHead(page, eTag, version.getCount(), currentRequest));
+		}).toSingle();
+	}
+
+	@GetMapping("/count")
+	public Single<ResponseEntity<Map<String, Long>>> count(@RequestParam(required = false) String name) {
+		return repository.countByNamePrefix(name).map(BoardRequests::count).toSingle();
+	}
+
+	@GetMapping("/name={name}")
+	public Single<ResponseEntity<List<BoardResource>>> findByNome(@PathVariable String name,
+			@RequestParam(required = false) String fields) {
+		BoardFields boardFields = BoardRequests.selectFields(fields);
+		BoardResourceAssembler requestAssembler = assembler.forCurrentRequest();
+		return repository.findByNameStartsWithIgnoreCase(name, boardFields).toList().map(boards -> {
+			if (!boards.isEmpty()) {
+				return new ResponseEntity<>(requestAssembler.toResources(boards), HttpStatus.OK);
+			} else {
+				return new ResponseEntity<List<BoardResource>>(HttpStatus.NOT_FOUND);
+			}
+		}).toSingle();
+	}
+
+	@GetMapping("/{id}")
+	public Single<ResponseEntity<BoardResource>> get(@PathVariable String id,
+			@RequestParam(required = false) String fields,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+		BoardRequests.selectFields(fields);
+		BoardResourceAssembler requestAssembler = assembler.forCurrentRequest();
+		return repository.findOne(id).map(board -> {
+			String eTag = BoardETags.of(board);
+			if (BoardETags.matches(ifNoneMatch, eTag)) {
+				return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).<BoardResource>build();
+			}
+			return ResponseEntity.ok().eTag(eTag).body(requestAssembler.toResource(board));
+		}).defaultIfEmpty(new ResponseEntity<>(HttpStatus.NOT_FOUND)).toSingle();
+	}
+
+	@RequestMapping(path = "/{id}", method = RequestMethod.HEAD)
+	public Single<ResponseEntity<Void>> head(@PathVariable String id,
+			@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+		return repository.findVersion(id)
+				.flatMap(board -> board.getVersion() == null ? repository.findOne(id) : Observable.just(board))
+				.map(board -> BoardRequests.boardHead(board, ifNoneMatch))
+				.defaultIfEmpty(new ResponseEntity<>(HttpStatus.NOT_FOUND)).toSingle();
+	}
+
+	@PostMapping
+	public Single<ResponseEntity<BoardResource>> create(@Valid @RequestBody Board board) {
+		if (writeBehind != null) {
+			return Single.just(BoardRequests.writeBehind(writeBehind, board, assembler));
+		}
+		BoardResourceAssembler requestAssembler = assembler.forCurrentRequest();
+		return repository.insert(board).map(created -> ResponseEntity.ok().eTag(BoardETags.of(created))
+				.body(requestAssembler.toResource(created)))
+				.defaultIfEmpty(new ResponseEntity<>(HttpStatus.UNPROCESSABLE_ENTITY)).toSingle();
+	}
+
+	@PutMapping("/{id}")
+	public Single<ResponseEntity<BoardResource>> update(@PathVariable String id, @Valid @RequestBody Board board,
+			@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+		if (BoardRequests.hasVersionPrecondition(ifMatch)) {
+			board.setVersion(BoardETags.versionOf(ifMatch));
+			if (board.getVersion() == null) {
+				return Single.just(new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED));
+			}
+		}
+		BoardResourceAssembler requestAssembler = assembler.forCurrentRequest();
+		return repository.replace(id, board).map(updatedBoard -> ResponseEntity.ok().eTag(BoardETags.of(updatedBoard))
+				.body(requestAssembler.toResource(updatedBoard)))
+				.defaultIfEmpty(new ResponseEntity<>(BoardRequests.missingBoardStatus(ifMatch)))
+				.onErrorResumeNext(error -> versionConflict(error, ifMatch))
+				.toSingle();
+	}
+
+	@DeleteMapping("/{id}")
+	public Single<ResponseEntity<BoardResource>> delete(@PathVariable String id,
+			@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+		Long version = null;
+		if (BoardRequests.hasVersionPrecondition(ifMatch)) {
+			version = BoardETags.versionOf(ifMatch);
+			if (version == null) {
+				return Single.just(new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED));
+			}
+		}
+		BoardResourceAssembler requestAssembler = assembler.forCurrentRequest();
+		return repository.removeById(id, version)
+				.map(board -> new ResponseEntity<>(requestAssembler.toResource(board), HttpStatus.OK))
+				.defaultIfEmpty(new ResponseEntity<>(BoardRequests.missingBoardStatus(ifMatch)))
+				.onErrorResumeNext(error -> versionConflict(error, ifMatch))
+				.toSingle();
+	}
+
+	private Observable<ResponseEntity<BoardResource>> versionConflict(Throwable error, String ifMatch) {
+		if (error instanceof OptimisticLockingFailureException) {
+			return Observable.just(new ResponseEntity<>(BoardRequests.versionConflictStatus(ifMatch)));
+		}
+		return Observable.error(error);
+	}
+}
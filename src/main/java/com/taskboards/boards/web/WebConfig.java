@@ -1,23 +1,94 @@
 package com.taskboards.boards.web;
 
 
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptorAdapter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.ContentNegotiationConfigurer;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurerAdapter;
 
+import com.taskboards.boards.BoardsProperties;
+import com.taskboards.boards.domain.Board;
+import com.taskboards.boards.domain.BoardFields;
+
+import rx.Scheduler;
+import rx.schedulers.Schedulers;
+
 @Configuration
 public class WebConfig extends WebMvcConfigurerAdapter {
 
+    private final BoardsProperties properties;
+
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+    public WebConfig(BoardsProperties properties, ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder) {
+        this.properties = properties;
+        this.objectMapperBuilder = objectMapperBuilder;
+    }
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer boardFieldsCustomizer() {
+        return builder -> builder.mixIn(Board.class, BoardFieldFilters.BoardMixin.class)
+            .filters(BoardFieldFilters.forFields(BoardFields.ALL));
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor boardStreamExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getApi().getStreamThreads());
+        executor.setMaxPoolSize(properties.getApi().getStreamThreads());
+        executor.setQueueCapacity(properties.getApi().getStreamQueueCapacity());
+        executor.setThreadNamePrefix("board-stream-");
+        return executor;
+    }
+
+    @Bean
+    public Scheduler boardStreamScheduler() {
+        return Schedulers.from(boardStreamExecutor());
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(boardStreamExecutor()).
+            registerCallableInterceptors(new CallableProcessingInterceptorAdapter() {
+
+                @Override
+                public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+                    ((AsyncWebRequest) request).setTimeout(properties.getApi().getStreamTimeoutMillis());
+                }
+            });
+    }
+
     @Override
     public void configureContentNegotiation(ContentNegotiationConfigurer configurer) {
         configurer.favorPathExtension(false).
             favorParameter(true).
             parameterName("mediaType").
-            ignoreAcceptHeader(true).
+            ignoreAcceptHeader(!properties.getApi().isAcceptHeaderNegotiation()).
             useJaf(false).
             defaultContentType(MediaType.APPLICATION_JSON).
             mediaType("xml", MediaType.APPLICATION_XML). 
-            mediaType("json", MediaType.APPLICATION_JSON);
+            mediaType("json", MediaType.APPLICATION_JSON).
+            mediaType("cbor", JacksonBinaryHttpMessageConverter.APPLICATION_CBOR).
+            mediaType("smile", JacksonBinaryHttpMessageConverter.APPLICATION_SMILE);
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        Jackson2ObjectMapperBuilder builder = objectMapperBuilder.getObject();
+        converters.add(JacksonBinaryHttpMessageConverter.cbor(builder));
+        converters.add(JacksonBinaryHttpMessageConverter.smile(builder));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,41 @@
+package com.taskboards.boards.web.ui;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+import javax.annotation.PreDestroy;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import com.taskboards.boards.domain.BoardChange;
+import com.vaadin.shared.Registration;
+
+@Component
+public class BoardChangeBroadcaster {
+
+	private final List<Consumer<BoardChange>> listeners = new CopyOnWriteArrayList<>();
+
+	private final ExecutorService executor = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("board-changes-"));
+
+	public Registration register(Consumer<BoardChange> listener) {
+		listeners.add(listener);
+		return () -> listeners.remove(listener);
+	}
+
+	@EventListener
+	public void onBoardChange(BoardChange change) {
+		if (!listeners.isEmpty()) {
+			executor.execute(() -> listeners.forEach(listener -> listener.accept(change)));
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+}
@@ -0,0 +1,101 @@
+package com.taskboards.boards.web.ui;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+
+import com.taskboards.boards.domain.Board;
+import com.taskboards.boards.domain.BoardFields;
+import com.taskboards.boards.domain.BoardRepository;
+import com.vaadin.data.provider.AbstractBackEndDataProvider;
+import com.vaadin.data.provider.Query;
+import com.vaadin.data.provider.QuerySortOrder;
+import com.vaadin.shared.data.sort.SortDirection;
+
+public class BoardDataProvider extends AbstractBackEndDataProvider<Board, String> {
+
+	private static final long serialVersionUID = 1L;
+
+	private static final Sort BY_NAME = toSort(QuerySortOrder.asc("name").build());
+
+	private final BoardRepository repository;
+
+	private final BoardFields columns;
+
+	private final BoardPrefixCache prefixCache;
+
+	public BoardDataProvider(BoardRepository repository, BoardFields columns, int prefixCacheSize) {
+		this.repository = repository;
+		this.columns = columns;
+		this.prefixCache = new BoardPrefixCache(prefixCacheSize);
+	}
+
+	@Override
+	protected Stream<Board> fetchFromBackEnd(Query<Board, String> query) {
+		String filter = query.getFilter().orElse(null);
+		Comparator<Board> order = toComparator(query.getSortOrders());
+		List<Board> cached = order == null ? null : prefixCache.find(filter);
+		if (cached != null) {
+			return cached.stream().sorted(order).skip(query.getOffset()).limit(query.getLimit());
+		}
+		return repository.findSlice(filter, query.getOffset(), query.getLimit(), toSort(query.getSortOrders()), columns).stream();
+	}
+
+	@Override
+	protected int sizeInBackEnd(Query<Board, String> query) {
+		String filter = query.getFilter().orElse(null);
+		List<Board> cached = prefixCache.find(filter);
+		if (cached != null) {
+			return cached.size();
+		}
+		if (prefixCache.getCapacity() > 0 && !prefixCache.overflows(filter)) {
+			List<Board> matching = repository.findSlice(filter, 0, prefixCache.getCapacity() + 1, BY_NAME, columns);
+			if (prefixCache.put(filter, matching)) {
+				return matching.size();
+			}
+		}
+		return Math.toIntExact(repository.countByNamePrefix(filter));
+	}
+
+	@Override
+	public Object getId(Board item) {
+		return item.getId();
+	}
+
+	public void invalidate() {
+		prefixCache.clear();
+	}
+
+	static Sort toSort(List<QuerySortOrder> sortOrders) {
+		Sort sort = null;
+		for (QuerySortOrder sortOrder : sortOrders) {
+			Direction direction = sortOrder.getDirection() == SortDirection.DESCENDING ? Direction.DESC : Direction.ASC;
+			String property = "name".equals(sortOrder.getSorted()) ? "normalizedName" : sortOrder.getSorted();
+			Sort order = new Sort(direction, property);
+			sort = sort == null ? order : sort.and(order);
+		}
+		Sort byId = new Sort(Direction.ASC, "id");
+		return sort == null ? byId : sort.and(byId);
+	}
+
+	static Comparator<Board> toComparator(List<QuerySortOrder> sortOrders) {
+		Comparator<Board> comparator = null;
+		for (QuerySortOrder sortOrder : sortOrders) {
+			Comparator<Board> order;
+			if ("name".equals(sortOrder.getSorted())) {
+				order = Comparator.comparing(board -> Board.normalizeName(board.getName()), Comparator.nullsFirst(Comparator.naturalOrder()));
+			} else if ("id".equals(sortOrder.getSorted())) {
+				order = Comparator.comparing(Board::getId);
+			} else {
+				return null;
+			}
+			order = sortOrder.getDirection() == SortDirection.DESCENDING ? order.reversed() : order;
+			comparator = comparator == null ? order : comparator.thenComparing(order);
+		}
+		Comparator<Board> byId = Comparator.comparing(Board::getId);
+		return comparator == null ? byId : comparator.thenComparing(byId);
+	}
+}
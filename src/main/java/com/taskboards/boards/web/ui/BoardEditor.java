@@ -1,6 +1,7 @@
 package com.taskboards.boards.web.ui;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
 
 import com.taskboards.boards.domain.Board;
 import com.taskboards.boards.domain.BoardRepository;
@@ -13,6 +14,7 @@ import com.vaadin.spring.annotation.UIScope;
 import com.vaadin.ui.Button;
 import com.vaadin.ui.Button.ClickListener;
 import com.vaadin.ui.CssLayout;
+import com.vaadin.ui.Notification;
 import com.vaadin.ui.TextField;
 import com.vaadin.ui.VerticalLayout;
 import com.vaadin.ui.themes.ValoTheme;
@@ -58,7 +60,8 @@ public class BoardEditor extends VerticalLayout {
 
 	private void loadBoardForEdition(Board editedBoard) {
 		if (editedBoard.isPersisted()) {
-			board = repository.findOne(editedBoard.getId());
+			Board persistedBoard = repository.findOne(editedBoard.getId());
+			board = persistedBoard == null ? null : new Board(persistedBoard);
 		} else {
 			board = editedBoard;
 		}
@@ -148,11 +151,19 @@ class BoardEditorFormConfigurator {
 	}
 
 	private void configureButtonsAction() {
-		configureListners(components.save, e -> editor.getRepository().save(editor.getBoard()));
+		configureListners(components.save, e -> saveBoard());
 		configureListners(components.delete, e -> editor.getRepository().delete(editor.getBoard()));
 		configureListners(components.cancel, e -> editor.editBoard(editor.getBoard()));
 	}
 
+	private void saveBoard() {
+		try {
+			editor.getRepository().save(editor.getBoard());
+		} catch (OptimisticLockingFailureException e) {
+			Notification.show("This board was changed by someone else, open it again to edit it", Notification.Type.WARNING_MESSAGE);
+		}
+	}
+
 	private void configureListners(Button button, ClickListener listener) {
 		button.addClickListener(listener);
 	}
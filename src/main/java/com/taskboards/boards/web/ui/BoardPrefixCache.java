@@ -0,0 +1,67 @@
+package com.taskboards.boards.web.ui;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.taskboards.boards.domain.Board;
+
+class BoardPrefixCache implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private final int capacity;
+
+	private String prefix;
+
+	private List<Board> boards = Collections.emptyList();
+
+	private String overflowedPrefix;
+
+	BoardPrefixCache(int capacity) {
+		this.capacity = capacity;
+	}
+
+	int getCapacity() {
+		return capacity;
+	}
+
+	List<Board> find(String namePrefix) {
+		String normalizedPrefix = normalize(namePrefix);
+		if (prefix == null || !normalizedPrefix.startsWith(prefix)) {
+			return null;
+		}
+		if (normalizedPrefix.equals(prefix)) {
+			return boards;
+		}
+		return boards.stream()
+				.filter(board -> normalize(board.getName()).startsWith(normalizedPrefix))
+				.collect(Collectors.toList());
+	}
+
+	boolean overflows(String namePrefix) {
+		return overflowedPrefix != null && overflowedPrefix.startsWith(normalize(namePrefix));
+	}
+
+	boolean put(String namePrefix, List<Board> matchingBoards) {
+		if (matchingBoards.size() > capacity) {
+			this.overflowedPrefix = normalize(namePrefix);
+			return false;
+		}
+		this.overflowedPrefix = null;
+		this.prefix = normalize(namePrefix);
+		this.boards = Collections.unmodifiableList(matchingBoards);
+		return true;
+	}
+
+	void clear() {
+		this.prefix = null;
+		this.boards = Collections.emptyList();
+		this.overflowedPrefix = null;
+	}
+
+	private static String normalize(String name) {
+		return name == null ? "" : Board.normalizeName(name);
+	}
+}
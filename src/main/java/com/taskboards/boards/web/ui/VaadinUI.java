@@ -2,10 +2,16 @@ package com.taskboards.boards.web.ui;
 
 import org.springframework.beans.factory.annotation.Autowired;
 
+import com.taskboards.boards.BoardsProperties;
 import com.taskboards.boards.domain.Board;
+import com.taskboards.boards.domain.BoardChange;
+import com.taskboards.boards.domain.BoardFields;
 import com.taskboards.boards.domain.BoardRepository;
+import com.vaadin.annotations.Push;
+import com.vaadin.data.provider.ConfigurableFilterDataProvider;
 import com.vaadin.icons.VaadinIcons;
 import com.vaadin.server.VaadinRequest;
+import com.vaadin.shared.Registration;
 import com.vaadin.shared.ui.ValueChangeMode;
 import com.vaadin.spring.annotation.SpringUI;
 import com.vaadin.ui.Button;
@@ -16,14 +22,25 @@ import com.vaadin.ui.UI;
 import com.vaadin.ui.VerticalLayout;
 
 @SpringUI
+@Push
 public class VaadinUI extends UI {
 
 	private static final long serialVersionUID = 1L;
 
-	private final BoardRepository repo;
+	private static final String[] COLUMNS = { "id", "name", "description" };
 
 	private final BoardEditor editor;
 
+	private final BoardDataProvider dataProvider;
+
+	private final ConfigurableFilterDataProvider<Board, Void, String> boards;
+
+	private final int filterDebounceMillis;
+
+	private final BoardChangeBroadcaster broadcaster;
+
+	private Registration broadcasterRegistration;
+
 	final Grid<Board> grid;
 
 	final TextField filter;
@@ -31,9 +48,12 @@ public class VaadinUI extends UI {
 	private final Button addNewBtn;
 
 	@Autowired
-	public VaadinUI(BoardRepository repo, BoardEditor editor) {
-		this.repo = repo;
+	public VaadinUI(BoardRepository repo, BoardEditor editor, BoardChangeBroadcaster broadcaster, BoardsProperties properties) {
 		this.editor = editor;
+		this.dataProvider = new BoardDataProvider(repo, BoardFields.of(COLUMNS), properties.getUi().getPrefixCacheSize());
+		this.boards = dataProvider.withConfigurableFilter();
+		this.filterDebounceMillis = properties.getUi().getFilterDebounceMillis();
+		this.broadcaster = broadcaster;
 		this.grid = new Grid<>(Board.class);
 		this.filter = new TextField();
 		this.addNewBtn = new Button("New board", VaadinIcons.PLUS);
@@ -50,15 +70,27 @@ public class VaadinUI extends UI {
 		initializeBoardList();
 	}
 
+	@Override
+	public void attach() {
+		super.attach();
+		broadcasterRegistration = broadcaster.register(change -> access(() -> applyBoardChange(change)));
+	}
+
+	@Override
+	public void detach() {
+		if (broadcasterRegistration != null) {
+			broadcasterRegistration.remove();
+			broadcasterRegistration = null;
+		}
+		super.detach();
+	}
+
 	private void initializeBoardList() {
 		listBoards(null);
 	}
 
 	private void configureListnerForChangedBoards() {
-		editor.setChangeHandler(() -> {
-			editor.setVisible(false);
-			listBoards(filter.getValue());
-		});
+		editor.setChangeHandler(() -> editor.setVisible(false));
 	}
 
 	private void configureBoardAddition() {
@@ -73,13 +105,16 @@ public class VaadinUI extends UI {
 
 	private void configureBoardFilter() {
 		filter.setValueChangeMode(ValueChangeMode.LAZY);
+		filter.setValueChangeTimeout(filterDebounceMillis);
 		filter.addValueChangeListener(e -> listBoards(e.getValue()));
 	}
 
 	private void configureLayout() {
 		this.grid.setWidth(70, Unit.PERCENTAGE);
 		grid.setHeight(60, Unit.PERCENTAGE);
-		grid.setColumns("id", "name", "description");
+		grid.setColumns(COLUMNS);
+		grid.getColumn("description").setSortable(false);
+		grid.setDataProvider(boards);
 		filter.setPlaceholder("Filter by name");
 	}
 
@@ -91,12 +126,26 @@ public class VaadinUI extends UI {
 
 	protected void listBoards(String filterText) {
 		if (hasFilter(filterText)) {
-			grid.setItems(repo.findAll());
+			boards.setFilter(null);
 		} else {
-			grid.setItems(repo.findByNameStartsWithIgnoreCase(filterText));
+			boards.setFilter(filterText);
 		}
 	}
 
+	void applyBoardChange(BoardChange change) {
+		dataProvider.invalidate();
+		if (change.getType() != BoardChange.Type.UPDATED || change.isRenamed()) {
+			boards.refreshAll();
+		} else if (matchesFilter(change.getBoard())) {
+			boards.refreshItem(change.getBoard());
+		}
+	}
+
+	private boolean matchesFilter(Board board) {
+		String filterText = filter.getValue();
+		return hasFilter(filterText) || Board.normalizeName(board.getName()).startsWith(Board.normalizeName(filterText));
+	}
+
 	private boolean hasFilter(String filterText) {
 		return filterText == null || filterText.isEmpty();
 	}
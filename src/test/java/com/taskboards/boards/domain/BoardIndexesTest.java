@@ -0,0 +1,86 @@
+package com.taskboards.boards.domain;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.IndexOperations;
+import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+
+import com.mongodb.AggregationOptions;
+import com.mongodb.DBCollection;
+import com.mongodb.MongoException;
+import com.taskboards.boards.BoardsProperties;
+
+public class BoardIndexesTest {
+
+	private final MongoOperations mongoOperations = mock(MongoOperations.class);
+
+	private final IndexOperations indexOperations = mock(IndexOperations.class);
+
+	private final DBCollection collection = mock(DBCollection.class);
+
+	private final BoardsProperties properties = new BoardsProperties();
+
+	@Before
+	public void setUp() {
+		given(mongoOperations.indexOps(Board.class)).willReturn(indexOperations);
+		given(mongoOperations.getCollectionName(Board.class)).willReturn("board");
+		given(mongoOperations.getCollection("board")).willReturn(collection);
+		given(collection.aggregate(any(), any(AggregationOptions.class)))
+				.willThrow(new MongoException("Unrecognized pipeline stage name: '$indexStats'"));
+		given(indexOperations.getIndexInfo()).willReturn(Arrays.asList(
+				index("_id_", IndexField.create("_id", Direction.ASC)),
+				index("normalizedName_id", IndexField.create("normalizedName", Direction.ASC), IndexField.create("_id", Direction.ASC)),
+				index("normalizedName", IndexField.create("normalizedName", Direction.ASC)),
+				index("legacy_name", IndexField.create("name", Direction.ASC), IndexField.create("_id", Direction.ASC))));
+	}
+
+	@Test
+	public void should_match_required_indexes_by_their_keys_and_list_the_missing_ones() {
+		BoardIndexes indexes = new BoardIndexes(mongoOperations, properties);
+
+		then(indexes.getMissing()).containsExactly("{lastModified: 1}");
+		then(indexes.getStatus()).extracting("name", "required", "present").containsExactly(
+				tuple("normalizedName_id", true, true),
+				tuple("legacy_name", true, true),
+				tuple("lastModified", true, false),
+				tuple("_id_", false, true),
+				tuple("normalizedName", false, true));
+	}
+
+	@Test
+	public void should_only_warn_about_missing_indexes_unless_asked_to_fail_fast() {
+		new BoardIndexes(mongoOperations, properties).verify();
+
+		properties.getIndexes().setFailOnMissing(true);
+
+		then(catchThrowable(new BoardIndexes(mongoOperations, properties)::verify))
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessage("The board collection is missing the indexes [{lastModified: 1}]");
+	}
+
+	@Test
+	public void should_report_the_status_of_the_board_indexes_through_the_endpoint() {
+		Map<String, Object> status = new BoardIndexEndpoint(new BoardIndexes(mongoOperations, properties)).invoke();
+
+		then(status).containsEntry("collection", "board").containsEntry("missing", Arrays.asList("{lastModified: 1}"));
+		then((List<?>) status.get("indexes")).extracting("name", "present").contains(tuple("legacy_name", true));
+	}
+
+	private static IndexInfo index(String name, IndexField... fields) {
+		return new IndexInfo(Arrays.asList(fields), name, false, false, false, "");
+	}
+}
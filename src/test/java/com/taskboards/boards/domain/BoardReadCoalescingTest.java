@@ -0,0 +1,139 @@
+package com.taskboards.boards.domain;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import com.taskboards.boards.BoardsApplication;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = BoardsApplication.class, properties = "spring.cloud.config.enabled=false", webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+public class BoardReadCoalescingTest {
+
+	private static final int FOLLOWERS = 3;
+
+	@Autowired
+	private BoardRepository repository;
+
+	@SpyBean
+	private MongoTemplate mongoTemplate;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@Autowired
+	private MeterRegistry registry;
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(FOLLOWERS + 1);
+
+	private final AtomicInteger queries = new AtomicInteger();
+
+	private final CountDownLatch querying = new CountDownLatch(1);
+
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	@Before
+	public void setUp() {
+		repository.deleteAll();
+		cacheManager.getCache(BoardRepository.CACHE_NAME).clear();
+	}
+
+	@After
+	public void tearDown() {
+		release.countDown();
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void should_send_one_query_for_concurrent_reads_of_the_same_board() throws Exception {
+		Board hrmTeam = repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
+		cacheManager.getCache(BoardRepository.CACHE_NAME).clear();
+		willAnswer(blocking()).given(mongoTemplate).findById(eq(hrmTeam.getId()), eq(Board.class), anyString());
+
+		List<Board> boards = readConcurrently("findOne", () -> repository.findOne(hrmTeam.getId()));
+
+		then(queries.get()).isEqualTo(1);
+		then(boards).extracting("id").containsOnly(hrmTeam.getId());
+	}
+
+	@Test
+	public void should_give_followers_their_own_unmodifiable_copy_of_the_boards_found_by_name() throws Exception {
+		repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
+		willAnswer(blocking()).given(mongoTemplate).find(any(Query.class), eq(Board.class));
+
+		List<List<Board>> results = readConcurrently("findByNameStartsWithIgnoreCase",
+				() -> repository.findByNameStartsWithIgnoreCase("team"));
+
+		then(queries.get()).isEqualTo(1);
+		List<Board> leader = results.get(0);
+		for (List<Board> follower : results.subList(1, results.size())) {
+			then(follower).isNotSameAs(leader).containsExactlyElementsOf(leader);
+			then(catchThrowable(() -> follower.clear())).isInstanceOf(UnsupportedOperationException.class);
+		}
+	}
+
+	private <T> List<T> readConcurrently(String method, Callable<T> read) throws Exception {
+		double coalesced = coalesced(method);
+		List<Future<T>> reads = new ArrayList<>();
+		reads.add(executor.submit(read));
+		then(querying.await(5, TimeUnit.SECONDS)).isTrue();
+		for (int follower = 0; follower < FOLLOWERS; follower++) {
+			reads.add(executor.submit(read));
+		}
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (coalesced(method) < coalesced + FOLLOWERS && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		release.countDown();
+
+		List<T> results = new ArrayList<>();
+		for (Future<T> future : reads) {
+			results.add(future.get(5, TimeUnit.SECONDS));
+		}
+		then(coalesced(method)).isEqualTo(coalesced + FOLLOWERS);
+		return results;
+	}
+
+	private Answer<Object> blocking() {
+		return invocation -> {
+			queries.incrementAndGet();
+			querying.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return invocation.callRealMethod();
+		};
+	}
+
+	private double coalesced(String method) {
+		return registry.get(BoardReadCoalescing.METRIC_NAME).tag("method", method).counter().count();
+	}
+}
@@ -0,0 +1,63 @@
+package com.taskboards.boards.domain;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import com.mongodb.DBObject;
+import com.taskboards.boards.BoardsApplication;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = BoardsApplication.class, properties = "spring.cloud.config.enabled=false", webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+public class BoardRepositoryMongodTest {
+
+	@Autowired
+	private BoardRepository repository;
+
+	@Autowired
+	private MongoTemplate mongoTemplate;
+
+	@Before
+	public void setUp() {
+		this.repository.deleteAll();
+	}
+
+	@Test
+	public void should_answer_name_prefix_lookups_with_an_index_scan() {
+		repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
+
+		DBObject explanation = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Board.class))
+				.find(BoardQueries.namePrefix("Team").getQueryObject()).explain();
+		then(explanation.containsField("queryPlanner")).as("the server reports query plans: %s", explanation).isTrue();
+		DBObject plan = (DBObject) ((DBObject) explanation.get("queryPlanner")).get("winningPlan");
+
+		then(plan.toString()).contains("IXSCAN").contains("normalizedName").doesNotContain("COLLSCAN");
+	}
+
+	@Test
+	public void should_sort_grid_slices_by_normalized_name_and_id_with_an_index_scan() {
+		repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
+		Query slice = BoardQueries.nameFilter("Team").with(new Sort("normalizedName").and(new Sort("id"))).limit(50);
+
+		DBObject plan = winningPlan(slice);
+
+		then(plan.toString()).contains("normalizedName_id").doesNotContain("SORT").doesNotContain("COLLSCAN");
+	}
+
+	private DBObject winningPlan(Query query) {
+		DBObject explanation = mongoTemplate.getCollection(mongoTemplate.getCollectionName(Board.class))
+				.find(query.getQueryObject()).sort(query.getSortObject()).limit(query.getLimit()).explain();
+		then(explanation.containsField("queryPlanner")).as("the server reports query plans: %s", explanation).isTrue();
+		return (DBObject) ((DBObject) explanation.get("queryPlanner")).get("winningPlan");
+	}
+}
@@ -0,0 +1,165 @@
+package com.taskboards.boards.domain;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.groups.Tuple.tuple;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.bson.types.ObjectId;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import com.mongodb.BasicDBObject;
+import com.mongodb.DBObject;
+import com.taskboards.boards.BoardsApplication;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = BoardsApplication.class, properties = "spring.cloud.config.enabled=false", webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("test")
+public class BoardRepositoryTest {
+
+	@Autowired
+	private BoardRepository repository;
+
+	@Autowired
+	private MongoTemplate mongoTemplate;
+
+	@Autowired
+	private BoardBackfillMigration migration;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@Autowired
+	private BoardIndexes boardIndexes;
+
+	@Before
+	public void setUp() {
+		this.repository.deleteAll();
+	}
+
+	@Test
+	public void should_find_boards_by_name_prefix_ignoring_case() {
+		repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
+		repository.save(new Board("TEAM TIE Wash and Wax Kanban", "Use is mandatory, Vader's orders."));
+		repository.save(new Board("Teal Squadron", ""));
+		repository.save(new Board("501st Legion TODO", ""));
+
+		List<Board> boards = repository.findByNameStartsWithIgnoreCase("tEaM");
+
+		then(boards).extracting("name").containsExactly("Team HRM", "TEAM TIE Wash and Wax Kanban");
+	}
+
+	@Test
+	public void should_find_only_the_id_and_version_of_a_board() {
+		Board hrmTeam = repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
+
+		Board version = repository.findVersion(hrmTeam.getId());
+
+		then(version.getId()).isEqualTo(hrmTeam.getId());
+		then(version.getVersion()).isEqualTo(hrmTeam.getVersion());
+		then(version.getName()).isNull();
+		then(version.getDescription()).isNull();
+		then(repository.findVersion(new ObjectId().toHexString())).isNull();
+	}
+
+	@Test
+	public void should_find_boards_by_non_ascii_name_prefix_ignoring_case() {
+		repository.save(new Board("Équipe de maintenance", ""));
+		repository.save(new Board("Equipe sans accent", ""));
+
+		List<Board> boards = repository.findByNameStartsWithIgnoreCase("éQUIPE");
+
+		then(boards).extracting("name").containsExactly("Équipe de maintenance");
+	}
+
+	@Test
+	public void should_keep_boards_read_by_id_in_the_cache() {
+		Board hrmTeam = repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
+
+		repository.findOne(hrmTeam.getId());
+
+		then(cachedBoard(hrmTeam.getId())).isNotNull();
+	}
+
+	@Test
+	public void should_evict_cached_boards_when_they_are_saved() {
+		Board hrmTeam = repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
+		repository.findOne(hrmTeam.getId());
+
+		hrmTeam.setName("Team HRM TODO");
+		repository.save(hrmTeam);
+
+		then(cachedBoard(hrmTeam.getId())).isNull();
+		then(repository.findOne(hrmTeam.getId()).getName()).isEqualTo("Team HRM TODO");
+	}
+
+	@Test
+	public void should_evict_cached_boards_when_they_are_deleted() {
+		Board hrmTeam = repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
+		repository.findOne(hrmTeam.getId());
+
+		repository.delete(hrmTeam.getId());
+
+		then(cachedBoard(hrmTeam.getId())).isNull();
+		then(repository.findOne(hrmTeam.getId())).isNull();
+	}
+
+	@Test
+	public void should_insert_boards_in_bulk_without_evicting_cached_boards() {
+		Board hrmTeam = repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
+		repository.findOne(hrmTeam.getId());
+		Board teamTIE = new Board("Team TIE Wash and Wax Kanban", "Use is mandatory, Vader's orders.");
+		teamTIE.setId(new ObjectId().toHexString());
+		teamTIE.setVersion(0L);
+
+		int inserted = repository.insertBoards(Arrays.asList(teamTIE));
+
+		then(inserted).isEqualTo(1);
+		then(cachedBoard(hrmTeam.getId())).isNotNull();
+		then(repository.findByNameStartsWithIgnoreCase("team tie")).extracting("id", "version").containsExactly(tuple(teamTIE.getId(), 0L));
+	}
+
+	@Test
+	public void should_backfill_the_normalized_name_of_boards_saved_before_it_existed() {
+		mongoTemplate.getCollection(mongoTemplate.getCollectionName(Board.class)).insert(new BasicDBObject("name", "Legacy Board"));
+
+		int backfilled = migration.backfillNormalizedNames();
+
+		then(backfilled).isEqualTo(1);
+		then(repository.findByNameStartsWithIgnoreCase("legacy")).extracting("name").containsExactly("Legacy Board");
+	}
+
+	@Test
+	public void should_look_up_name_prefixes_with_a_range_on_the_normalized_name() {
+		DBObject query = BoardQueries.namePrefix("Team").getQueryObject();
+
+		then(query.keySet()).containsExactly("normalizedName");
+		DBObject range = (DBObject) query.get("normalizedName");
+		then(range.keySet()).containsOnly("$gte", "$lt");
+		then(range.get("$gte")).isEqualTo("team");
+		then(range.get("$lt")).isEqualTo("tean");
+		then(query.toString()).doesNotContain("$regex");
+	}
+
+	@Test
+	public void should_create_every_required_index_at_startup() {
+		then(boardIndexes.getMissing()).isEmpty();
+		then(boardIndexes.getStatus()).extracting("name", "keys", "required", "present").contains(
+				tuple("normalizedName_id", "{normalizedName: 1, _id: 1}", true, true),
+				tuple("name_id", "{name: 1, _id: 1}", true, true),
+				tuple("lastModified", "{lastModified: 1}", true, true));
+	}
+
+	private Object cachedBoard(String id) {
+		return cacheManager.getCache(BoardRepository.CACHE_NAME).get(id);
+	}
+}
@@ -0,0 +1,120 @@
+package com.taskboards.boards.domain;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.taskboards.boards.BoardsProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class BoardWriteBehindTest {
+
+	private final BoardRepository repository = mock(BoardRepository.class);
+
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	private final List<String> written = new CopyOnWriteArrayList<>();
+
+	private final CountDownLatch writing = new CountDownLatch(1);
+
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	private BoardWriteBehind writeBehind;
+
+	@After
+	public void tearDown() {
+		release.countDown();
+		writeBehind.stop();
+	}
+
+	@Test
+	public void should_assign_ids_and_write_accepted_boards_in_batches() throws Exception {
+		writeBehind = writeBehind(10, 5, 50);
+		release.countDown();
+		writeBehind.start();
+
+		Board accepted = writeBehind.offer(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
+
+		then(accepted.getId()).isNotNull();
+		then(accepted.getVersion()).isZero();
+		then(writing.await(5, TimeUnit.SECONDS)).isTrue();
+		writeBehind.stop();
+		then(written).containsExactly(accepted.getId());
+		then(registry.get(BoardWriteBehind.METRIC_NAME).tag("outcome", "written").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	public void should_reject_boards_once_the_queue_is_full_and_flush_it_on_stop() throws Exception {
+		writeBehind = writeBehind(2, 1, 50);
+		writeBehind.start();
+		Board first = writeBehind.offer(new Board("Team HRM", ""));
+		then(writing.await(5, TimeUnit.SECONDS)).isTrue();
+
+		Board second = writeBehind.offer(new Board("Team TIE", ""));
+		Board third = writeBehind.offer(new Board("501st Legion TODO", ""));
+		Board rejected = writeBehind.offer(new Board("Teal Squadron", ""));
+
+		then(rejected).isNull();
+		release.countDown();
+		writeBehind.stop();
+		then(written).containsExactly(first.getId(), second.getId(), third.getId());
+		then(writeBehind.offer(new Board("Teal Squadron", ""))).isNull();
+		then(registry.get(BoardWriteBehind.METRIC_NAME).tag("outcome", "rejected").counter().count()).isEqualTo(2);
+	}
+
+	@Test
+	public void should_write_every_board_accepted_while_stopping() throws Exception {
+		release.countDown();
+		for (int attempt = 0; attempt < 20; attempt++) {
+			written.clear();
+			writeBehind = writeBehind(1000, 10, 1);
+			writeBehind.start();
+			List<Board> accepted = new CopyOnWriteArrayList<>();
+			ExecutorService clients = Executors.newFixedThreadPool(4);
+			for (int client = 0; client < 4; client++) {
+				clients.execute(() -> {
+					Board board;
+					while ((board = writeBehind.offer(new Board("Team HRM", ""))) != null) {
+						accepted.add(board);
+					}
+				});
+			}
+			Thread.sleep(2);
+			writeBehind.stop();
+			clients.shutdown();
+			then(clients.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+			then(written).containsOnlyElementsOf(accepted.stream().map(Board::getId).collect(Collectors.toList()))
+					.hasSameSizeAs(accepted);
+		}
+	}
+
+	private BoardWriteBehind writeBehind(int capacity, int batchSize, long flushIntervalMillis) {
+		BoardsProperties properties = new BoardsProperties();
+		properties.getWriteBehind().setQueueCapacity(capacity);
+		properties.getWriteBehind().setBatchSize(batchSize);
+		properties.getWriteBehind().setFlushIntervalMillis(flushIntervalMillis);
+		doAnswer(invocation -> {
+			writing.countDown();
+			release.await();
+			@SuppressWarnings("unchecked")
+			List<Board> boards = invocation.getArgumentAt(0, List.class);
+			boards.forEach(board -> written.add(board.getId()));
+			return boards.size();
+		}).when(repository).insertBoards(any());
+		return new BoardWriteBehind(repository, properties, registry);
+	}
+}
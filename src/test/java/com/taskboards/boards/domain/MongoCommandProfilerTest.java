@@ -0,0 +1,81 @@
+package com.taskboards.boards.domain;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.groups.Tuple.tuple;
+
+import java.util.concurrent.TimeUnit;
+
+import org.bson.BsonDocument;
+import org.junit.Test;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import com.taskboards.boards.BoardsProperties;
+
+public class MongoCommandProfilerTest {
+
+	private static final ConnectionDescription CONNECTION = new ConnectionDescription(new ServerId(new ClusterId(), new ServerAddress()));
+
+	private static final String PREFIX_QUERY = "{find: 'board', filter: {normalizedName: /^team/i}, sort: {normalizedName: 1}}";
+
+	private static final String FIND_ALL_QUERY = "{find: 'board', filter: {}}";
+
+	@Test
+	public void should_describe_commands_by_query_shape_without_their_values() {
+		then(MongoCommandProfiler.shapeOf("find", BsonDocument.parse(PREFIX_QUERY)))
+				.isEqualTo("find board filter={normalizedName: /?/} sort={normalizedName: 1}");
+		then(MongoCommandProfiler.shapeOf("find", BsonDocument.parse("{find: 'board', filter: {_id: {$in: ['a', 'b']}, version: 3}}")))
+				.isEqualTo("find board filter={_id: {$in: [?]}, version: ?}");
+		then(MongoCommandProfiler.shapeOf("update", BsonDocument.parse("{update: 'board', updates: [{q: {_id: 'a'}, u: {$set: {name: 'x'}}}]}")))
+				.isEqualTo("update board q={_id: ?}");
+	}
+
+	@Test
+	public void should_keep_only_the_slowest_commands_and_aggregate_every_shape() {
+		BoardsProperties properties = new BoardsProperties();
+		properties.getProfiling().setSlowCommandThresholdMillis(10);
+		properties.getProfiling().setSlowCommandCapacity(2);
+		MongoCommandProfiler profiler = new MongoCommandProfiler(properties);
+
+		run(profiler, 1, PREFIX_QUERY, 5, 2);
+		run(profiler, 2, PREFIX_QUERY, 40, 3);
+		run(profiler, 3, FIND_ALL_QUERY, 20, 100);
+		run(profiler, 4, FIND_ALL_QUERY, 90, 100);
+
+		then(profiler.getSlowestCommands()).extracting("shape", "durationMillis", "documents").containsExactly(
+				tuple("find board filter={}", 90.0, 100L),
+				tuple("find board filter={normalizedName: /?/} sort={normalizedName: 1}", 40.0, 3L));
+		then(profiler.getShapeStats()).extracting("shape", "count", "slow", "documents", "maxMillis").containsExactly(
+				tuple("find board filter={}", 2L, 2L, 200L, 90.0),
+				tuple("find board filter={normalizedName: /?/} sort={normalizedName: 1}", 2L, 1L, 5L, 40.0));
+	}
+
+	@Test
+	public void should_keep_the_slowest_command_through_a_burst_of_barely_slow_ones() {
+		BoardsProperties properties = new BoardsProperties();
+		properties.getProfiling().setSlowCommandThresholdMillis(10);
+		properties.getProfiling().setSlowCommandCapacity(3);
+		MongoCommandProfiler profiler = new MongoCommandProfiler(properties);
+
+		run(profiler, 1, FIND_ALL_QUERY, 10_000, 100);
+		for (int requestId = 2; requestId < 100; requestId++) {
+			run(profiler, requestId, PREFIX_QUERY, 11, 1);
+		}
+
+		then(profiler.getSlowestCommands()).extracting("durationMillis").containsExactly(10_000.0, 11.0, 11.0);
+	}
+
+	private static void run(MongoCommandProfiler profiler, int requestId, String command, long millis, int documents) {
+		StringBuilder batch = new StringBuilder();
+		for (int index = 0; index < documents; index++) {
+			batch.append(index > 0 ? ", " : "").append("{_id: ").append(index).append('}');
+		}
+		BsonDocument reply = BsonDocument.parse("{ok: 1, cursor: {id: 0, ns: 'test.board', firstBatch: [" + batch + "]}}");
+		profiler.commandStarted(new CommandStartedEvent(requestId, CONNECTION, "test", "find", BsonDocument.parse(command)));
+		profiler.commandSucceeded(new CommandSucceededEvent(requestId, CONNECTION, "find", reply, TimeUnit.MILLISECONDS.toNanos(millis)));
+	}
+}
@@ -0,0 +1,57 @@
+package com.taskboards.boards.domain;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import org.junit.Test;
+import org.springframework.boot.autoconfigure.mongo.MongoProperties;
+
+import com.mongodb.ConnectionString;
+import com.mongodb.MongoCredential;
+
+public class ReactiveMongoConfigurationTest {
+
+	@Test
+	public void should_keep_the_credentials_of_a_host_and_port_configuration() {
+		MongoProperties properties = new MongoProperties();
+		properties.setHost("mongo.local");
+		properties.setPort(27018);
+		properties.setDatabase("boards");
+		properties.setUsername("vader");
+		properties.setPassword("dark side:@/?".toCharArray());
+		properties.setAuthenticationDatabase("admin");
+
+		ConnectionString connectionString = new ConnectionString(ReactiveMongoConfiguration.connectionString(properties));
+
+		then(connectionString.getHosts()).containsExactly("mongo.local:27018");
+		then(connectionString.getDatabase()).isEqualTo("boards");
+		MongoCredential credential = connectionString.getCredentialList().get(0);
+		then(credential.getUserName()).isEqualTo("vader");
+		then(credential.getPassword()).isEqualTo("dark side:@/?".toCharArray());
+		then(credential.getSource()).isEqualTo("admin");
+	}
+
+	@Test
+	public void should_authenticate_against_the_database_when_no_authentication_database_is_set() {
+		MongoProperties properties = new MongoProperties();
+		properties.setHost("mongo.local");
+		properties.setDatabase("boards");
+		properties.setUsername("vader");
+		properties.setPassword("secret".toCharArray());
+
+		ConnectionString connectionString = new ConnectionString(ReactiveMongoConfiguration.connectionString(properties));
+
+		then(connectionString.getCredentialList().get(0).getSource()).isEqualTo("boards");
+	}
+
+	@Test
+	public void should_connect_without_credentials_when_none_are_set() {
+		MongoProperties properties = new MongoProperties();
+		properties.setHost("mongo.local");
+		properties.setDatabase("boards");
+
+		ConnectionString connectionString = new ConnectionString(ReactiveMongoConfiguration.connectionString(properties));
+
+		then(connectionString.getCredentialList()).isEmpty();
+		then(connectionString.getHosts()).containsExactly("mongo.local:27017");
+	}
+}
@@ -0,0 +1,100 @@
+package com.taskboards.boards.domain;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class SingleFlightTest {
+
+	private final SingleFlight<String, Board> flights = new SingleFlight<>();
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	private final AtomicInteger calls = new AtomicInteger();
+
+	private final CountDownLatch leading = new CountDownLatch(1);
+
+	private final CountDownLatch followers = new CountDownLatch(3);
+
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	@After
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	public void should_share_one_call_between_concurrent_identical_reads() throws Exception {
+		Board hrmTeam = new Board("Team HRM", "Hypermatter Reactor Maintenance Team board");
+		List<Future<Board>> reads = new ArrayList<>();
+		reads.add(executor.submit(() -> read("hrm", () -> {
+			leading.countDown();
+			release.await();
+			return hrmTeam;
+		})));
+		then(leading.await(5, TimeUnit.SECONDS)).isTrue();
+		for (int index = 0; index < 3; index++) {
+			reads.add(executor.submit(() -> read("hrm", () -> new Board("Unexpected", "call"))));
+		}
+
+		then(followers.await(5, TimeUnit.SECONDS)).isTrue();
+		release.countDown();
+
+		for (Future<Board> read : reads) {
+			then(read.get(5, TimeUnit.SECONDS)).isSameAs(hrmTeam);
+		}
+		then(calls.get()).isEqualTo(1);
+		then(flights.inFlight()).isZero();
+	}
+
+	@Test
+	public void should_give_the_leader_failure_to_every_coalesced_read_and_retry_afterwards() throws Exception {
+		Future<Board> leader = executor.submit(() -> read("hrm", () -> {
+			leading.countDown();
+			release.await();
+			throw new IllegalStateException("mongo is down");
+		}));
+		then(leading.await(5, TimeUnit.SECONDS)).isTrue();
+		List<Future<Board>> reads = new ArrayList<>();
+		for (int index = 0; index < 3; index++) {
+			reads.add(executor.submit(() -> read("hrm", () -> null)));
+		}
+		then(followers.await(5, TimeUnit.SECONDS)).isTrue();
+		release.countDown();
+
+		reads.add(leader);
+		for (Future<Board> read : reads) {
+			then(catchThrowable(() -> read.get(5, TimeUnit.SECONDS))).isInstanceOf(ExecutionException.class)
+					.hasCauseInstanceOf(IllegalStateException.class);
+		}
+		then(calls.get()).isEqualTo(1);
+		then(read("hrm", () -> null)).isNull();
+		then(calls.get()).isEqualTo(2);
+	}
+
+	private Board read(String key, SingleFlight.Call<Board> call) throws Exception {
+		try {
+			return flights.execute(key, () -> {
+				calls.incrementAndGet();
+				return call.call();
+			}, followers::countDown, UnaryOperator.identity());
+		} catch (Exception | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,8 @@
+package com.taskboards.boards.web;
+
+import org.springframework.test.context.TestPropertySource;
+
+@TestPropertySource(properties = "boards.api.mode=async")
+public class AsyncBoardRestControllerTest extends BoardRestControllerTest {
+
+}
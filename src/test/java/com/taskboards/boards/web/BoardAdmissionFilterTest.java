@@ -0,0 +1,121 @@
+package com.taskboards.boards.web;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.ServletRequest;
+import javax.servlet.ServletResponse;
+
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.taskboards.boards.BoardsProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class BoardAdmissionFilterTest {
+
+	private final MeterRegistry registry = new SimpleMeterRegistry();
+
+	@Test
+	public void should_reject_requests_beyond_the_limit_of_their_kind_with_ServiceUnavailable() throws Exception {
+		BoardAdmissionFilter filter = new BoardAdmissionFilter(properties(1), registry);
+		MockHttpServletResponse nestedRead = new MockHttpServletResponse();
+		MockHttpServletResponse nestedWrite = new MockHttpServletResponse();
+
+		filter.doFilter(request("GET", "/boards"), new MockHttpServletResponse(), (request, response) -> {
+			filter.doFilter(request("GET", "/boards/1"), nestedRead, new MockFilterChain());
+			filter.doFilter(request("POST", "/boards"), nestedWrite, new MockFilterChain());
+		});
+
+		then(nestedRead.getStatus()).isEqualTo(503);
+		then(nestedRead.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+		then(nestedWrite.getStatus()).isEqualTo(200);
+		then(registry.get("boards.admission.rejected").tag("type", "read").functionCounter().count()).isEqualTo(1.0);
+		then(registry.get("boards.admission.in.flight").tag("type", "read").gauge().value()).isEqualTo(0.0);
+	}
+
+	@Test
+	public void should_leave_requests_outside_of_boards_alone() throws Exception {
+		BoardAdmissionFilter filter = new BoardAdmissionFilter(properties(1), registry);
+		MockHttpServletResponse nested = new MockHttpServletResponse();
+
+		filter.doFilter(request("GET", "/boards"), new MockHttpServletResponse(),
+				(request, response) -> filter.doFilter(request("GET", "/boardindexes"), nested, new MockFilterChain()));
+
+		then(nested.getStatus()).isEqualTo(200);
+	}
+
+	@Test
+	public void should_keep_long_bulk_and_streaming_requests_out_of_the_read_and_write_limits() throws Exception {
+		BoardsProperties properties = new BoardsProperties();
+		properties.getAdmission().setReads(new BoardsProperties.Admission.Limit(4, 1, 8, 1));
+		properties.getAdmission().setWrites(new BoardsProperties.Admission.Limit(4, 1, 8, 1));
+		BoardAdmissionFilter filter = new BoardAdmissionFilter(properties, registry);
+		MockHttpServletRequest stream = request("GET", "/boards");
+		stream.setParameter("stream", "true");
+
+		filter.doFilter(request("GET", "/boards/export"), new MockHttpServletResponse(), BoardAdmissionFilterTest::slowly);
+		filter.doFilter(stream, new MockHttpServletResponse(), BoardAdmissionFilterTest::slowly);
+		filter.doFilter(request("POST", "/boards/import"), new MockHttpServletResponse(), BoardAdmissionFilterTest::slowly);
+		filter.doFilter(request("POST", "/boards/batch"), new MockHttpServletResponse(), BoardAdmissionFilterTest::slowly);
+
+		then(limit("read")).isEqualTo(4.0);
+		then(limit("write")).isEqualTo(4.0);
+		then(registry.get("boards.admission.in.flight").tag("type", "bulk").gauge().value()).isEqualTo(0.0);
+
+		filter.doFilter(request("GET", "/boards"), new MockHttpServletResponse(), BoardAdmissionFilterTest::slowly);
+
+		then(limit("read")).isLessThan(4.0);
+	}
+
+	@Test
+	public void should_grow_the_limit_while_it_is_used_and_back_off_when_latency_exceeds_the_threshold() {
+		BoardConcurrencyLimit limit = new BoardConcurrencyLimit(new BoardsProperties.Admission.Limit(4, 2, 6, 100), 0.5);
+
+		for (int request = 0; request < 4; request++) {
+			then(limit.tryAcquire()).isTrue();
+		}
+		then(limit.tryAcquire()).isFalse();
+		for (int request = 0; request < 4; request++) {
+			limit.release(TimeUnit.MILLISECONDS.toNanos(10), false);
+		}
+		then(limit.getLimit()).isEqualTo(6);
+
+		limit.tryAcquire();
+		limit.release(TimeUnit.MILLISECONDS.toNanos(500), false);
+		then(limit.getLimit()).isEqualTo(3);
+		limit.tryAcquire();
+		limit.release(TimeUnit.MILLISECONDS.toNanos(10), true);
+		then(limit.getLimit()).isEqualTo(2);
+		then(limit.getRejected()).isEqualTo(1);
+	}
+
+	private double limit(String type) {
+		return registry.get("boards.admission.limit").tag("type", type).gauge().value();
+	}
+
+	private static void slowly(ServletRequest request, ServletResponse response) {
+		try {
+			Thread.sleep(20);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static MockHttpServletRequest request(String method, String path) {
+		return new MockHttpServletRequest(method, path);
+	}
+
+	private static BoardsProperties properties(int initialLimit) {
+		BoardsProperties properties = new BoardsProperties();
+		properties.getAdmission().setReads(new BoardsProperties.Admission.Limit(initialLimit, 1, 1, 1000));
+		properties.getAdmission().setWrites(new BoardsProperties.Admission.Limit(initialLimit, 1, 1, 1000));
+		return properties;
+	}
+}
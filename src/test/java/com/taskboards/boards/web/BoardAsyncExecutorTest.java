@@ -0,0 +1,82 @@
+package com.taskboards.boards.web;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.taskboards.boards.BoardsProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class BoardAsyncExecutorTest {
+
+	private final MeterRegistry registry = new SimpleMeterRegistry();
+
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	private BoardAsyncExecutor executor;
+
+	@After
+	public void tearDown() throws InterruptedException {
+		release.countDown();
+		executor.destroy();
+	}
+
+	@Test
+	public void should_reject_calls_beyond_the_endpoint_limit_without_blocking_other_endpoints() throws Exception {
+		executor = new BoardAsyncExecutor(properties(2, 10, 1), registry);
+
+		CompletableFuture<ResponseEntity<String>> running = executor.submit("get", this::blockedCall);
+		ResponseEntity<String> rejected = executor.submit("get", this::blockedCall).get(1, TimeUnit.SECONDS);
+		CompletableFuture<ResponseEntity<String>> otherEndpoint = executor.submit("list", () -> ResponseEntity.ok("list"));
+
+		then(rejected.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+		then(rejected.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+		then(otherEndpoint.get(1, TimeUnit.SECONDS).getBody()).isEqualTo("list");
+		then(registry.get("boards.async.in.flight").tag("endpoint", "get").gauge().value()).isEqualTo(1.0);
+		release.countDown();
+		then(running.get(1, TimeUnit.SECONDS).getBody()).isEqualTo("done");
+		then(registry.get("boards.async.rejected").tag("endpoint", "get").counter().count()).isEqualTo(1.0);
+	}
+
+	@Test
+	public void should_reject_calls_once_the_shared_queue_is_full() throws InterruptedException, ExecutionException, TimeoutException {
+		executor = new BoardAsyncExecutor(properties(1, 1, 10), registry);
+
+		executor.submit("get", this::blockedCall);
+		executor.submit("list", this::blockedCall);
+		ResponseEntity<String> rejected = executor.submit("search", this::blockedCall).get(1, TimeUnit.SECONDS);
+
+		then(rejected.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+		then(registry.get("boards.async.queued").gauge().value()).isEqualTo(1.0);
+		then(registry.get("boards.async.in.flight").tag("endpoint", "search").gauge().value()).isEqualTo(0.0);
+	}
+
+	private ResponseEntity<String> blockedCall() {
+		try {
+			release.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return ResponseEntity.ok("done");
+	}
+
+	private static BoardsProperties properties(int threads, int queueCapacity, int endpointConcurrency) {
+		BoardsProperties properties = new BoardsProperties();
+		properties.getAsync().setThreads(threads);
+		properties.getAsync().setQueueCapacity(queueCapacity);
+		properties.getAsync().setDefaultEndpointConcurrency(endpointConcurrency);
+		return properties;
+	}
+}
@@ -0,0 +1,167 @@
+package com.taskboards.boards.web;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.context.web.WebAppConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.taskboards.boards.BoardsApplication;
+import com.taskboards.boards.BoardsProperties;
+import com.taskboards.boards.domain.Board;
+import com.taskboards.boards.domain.BoardRepository;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = BoardsApplication.class, properties = "spring.cloud.config.enabled=false")
+@WebAppConfiguration
+@ActiveProfiles("test")
+public class BoardBatchRestControllerTest {
+
+	private static final String BATCH_ENDPOINT = "/boards/batch";
+
+	private MockMvc mockMvc;
+
+	@Autowired
+	private BoardRepository repository;
+
+	@Autowired
+	private WebApplicationContext applicationContext;
+
+	@Autowired
+	private BoardsProperties properties;
+
+	private int chunkSize;
+
+	@Before
+	public void setUp() {
+		this.mockMvc = MockMvcBuilders.webAppContextSetup(applicationContext).build();
+		this.repository.deleteAll();
+		this.chunkSize = properties.getBatch().getChunkSize();
+	}
+
+	@After
+	public void tearDown() {
+		properties.getBatch().setChunkSize(chunkSize);
+	}
+
+	@Test
+	public void should_create_update_and_delete_boards_in_a_single_batch() throws Exception {
+		Board hrmTeam = repository.save(new Board("HRM Team", "Hypermatter Reactor Maintenance Team board"));
+		Board vaderFist = repository.save(new Board("501st Legion TODO", "Vader's Fist TODO. *Should not be updated during battle!"));
+
+		ResultActions result = performBatch("["
+				+ "{\"op\":\"create\",\"board\":{\"name\":\"Team TIE Wash and Wax Kanban\",\"description\":\"Use is mandatory, Vader's orders.\"}},"
+				+ "{\"op\":\"update\",\"id\":\"" + hrmTeam.getId() + "\",\"board\":{\"name\":\"Team HRM TODO\",\"description\":\"\"}},"
+				+ "{\"op\":\"delete\",\"id\":\"" + vaderFist.getId() + "\"}]");
+
+		result.andDo(print()).andExpect(status().isOk()).andExpect(jsonPath("$", hasSize(3)))
+				.andExpect(jsonPath("$[0].status", is(201))).andExpect(jsonPath("$[0].id", notNullValue()))
+				.andExpect(jsonPath("$[1].status", is(200))).andExpect(jsonPath("$[1].version", is(1)))
+				.andExpect(jsonPath("$[2].status", is(200)));
+		then(repository.findByNameStartsWithIgnoreCase("team")).extracting("name").containsExactly("Team HRM TODO", "Team TIE Wash and Wax Kanban");
+		then(repository.exists(vaderFist.getId())).isFalse();
+	}
+
+	@Test
+	public void should_reject_invalid_items_and_skip_the_rest_of_an_ordered_batch() throws Exception {
+		ResultActions result = performBatch("["
+				+ "{\"op\":\"create\",\"board\":{\"name\":\"Team HRM\",\"description\":\"\"}},"
+				+ "{\"op\":\"create\",\"board\":{\"name\":\"\",\"description\":\"\"}},"
+				+ "{\"op\":\"create\",\"board\":{\"name\":\"Team TIE\",\"description\":\"\"}}]");
+
+		result.andExpect(status().isOk())
+				.andExpect(jsonPath("$[0].status", is(201)))
+				.andExpect(jsonPath("$[1].status", is(422)))
+				.andExpect(jsonPath("$[2].status", is(424)));
+		then(repository.count()).isEqualTo(1);
+	}
+
+	@Test
+	public void should_apply_the_valid_items_of_an_unordered_batch() throws Exception {
+		ResultActions result = mockMvc.perform(post(BATCH_ENDPOINT).param("ordered", "false").contentType(MediaType.APPLICATION_JSON).content("["
+				+ "{\"op\":\"delete\",\"id\":\"501\"},"
+				+ "{\"op\":\"create\",\"board\":{\"name\":\"Team TIE\",\"description\":\"\"}}]"));
+
+		result.andExpect(status().isOk())
+				.andExpect(jsonPath("$[0].status", is(422)))
+				.andExpect(jsonPath("$[1].status", is(201)));
+		then(repository.count()).isEqualTo(1);
+	}
+
+	@Test
+	public void should_return_Conflict_for_items_based_on_an_outdated_version() throws Exception {
+		Board hrmTeam = repository.save(new Board("HRM Team", "Hypermatter Reactor Maintenance Team board"));
+
+		ResultActions result = performBatch("[{\"op\":\"delete\",\"id\":\"" + hrmTeam.getId() + "\",\"version\":7}]");
+
+		result.andExpect(status().isOk()).andExpect(jsonPath("$[0].status", is(409)));
+		then(repository.exists(hrmTeam.getId())).isTrue();
+	}
+
+	@Test
+	public void should_accept_newline_delimited_operations() throws Exception {
+		ResultActions result = mockMvc.perform(post(BATCH_ENDPOINT).contentType(MediaType.parseMediaType("application/x-ndjson")).content(
+				"{\"op\":\"create\",\"board\":{\"name\":\"Team HRM\",\"description\":\"\"}}\n"
+				+ "{\"op\":\"create\",\"board\":{\"name\":\"Team TIE\",\"description\":\"\"}}\n"));
+
+		result.andExpect(status().isOk()).andExpect(jsonPath("$", hasSize(2)));
+		then(repository.count()).isEqualTo(2);
+	}
+
+	@Test
+	public void should_reject_a_malformed_line_and_skip_the_rest_of_an_ordered_stream() throws Exception {
+		properties.getBatch().setChunkSize(2);
+
+		ResultActions result = performLines(true);
+
+		result.andExpect(status().isOk()).andExpect(jsonPath("$", hasSize(5)))
+				.andExpect(jsonPath("$[0].status", is(201))).andExpect(jsonPath("$[1].status", is(201)))
+				.andExpect(jsonPath("$[2].status", is(201))).andExpect(jsonPath("$[3].status", is(422)))
+				.andExpect(jsonPath("$[3].error", startsWith("Malformed line"))).andExpect(jsonPath("$[4].status", is(424)));
+		then(repository.count()).isEqualTo(3);
+	}
+
+	@Test
+	public void should_reject_a_malformed_line_and_apply_the_rest_of_an_unordered_stream() throws Exception {
+		properties.getBatch().setChunkSize(2);
+
+		ResultActions result = performLines(false);
+
+		result.andExpect(status().isOk()).andExpect(jsonPath("$", hasSize(5)))
+				.andExpect(jsonPath("$[3].status", is(422))).andExpect(jsonPath("$[4].status", is(201)));
+		then(repository.count()).isEqualTo(4);
+	}
+
+	private ResultActions performLines(boolean ordered) throws Exception {
+		return mockMvc.perform(post(BATCH_ENDPOINT).param("ordered", String.valueOf(ordered))
+				.contentType(MediaType.parseMediaType("application/x-ndjson")).content(
+						"{\"op\":\"create\",\"board\":{\"name\":\"Team HRM\",\"description\":\"\"}}\n"
+						+ "{\"op\":\"create\",\"board\":{\"name\":\"Team TIE\",\"description\":\"\"}}\n"
+						+ "{\"op\":\"create\",\"board\":{\"name\":\"Team Rebel Scum\",\"description\":\"\"}}\n"
+						+ "{\"op\":\"create\",\"board\":{\"name\":\"Team Broken\"\n"
+						+ "{\"op\":\"create\",\"board\":{\"name\":\"Team 501st\",\"description\":\"\"}}\n"));
+	}
+
+	private ResultActions performBatch(String operations) throws Exception {
+		return mockMvc.perform(post(BATCH_ENDPOINT).contentType(MediaType.APPLICATION_JSON).content(operations));
+	}
+}
@@ -0,0 +1,82 @@
+package com.taskboards.boards.web;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.embedded.LocalServerPort;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskboards.boards.BoardsApplication;
+import com.taskboards.boards.domain.Board;
+import com.taskboards.boards.domain.BoardRepository;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = BoardsApplication.class, webEnvironment = WebEnvironment.RANDOM_PORT,
+		properties = "spring.cloud.config.enabled=false")
+@ActiveProfiles("test")
+public class BoardCompressionTest {
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private BoardRepository repository;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Before
+	public void setUp() {
+		repository.deleteAll();
+	}
+
+	@Test
+	public void should_gzip_the_streamed_boards_when_the_client_accepts_it() throws Exception {
+		for (int index = 0; index < 200; index++) {
+			repository.save(new Board("Team " + index, "Hypermatter Reactor Maintenance Team board"));
+		}
+
+		HttpURLConnection connection = open("/boards?stream=true");
+
+		then(connection.getResponseCode()).isEqualTo(200);
+		then(connection.getHeaderField("Content-Encoding")).isEqualTo("gzip");
+		try (InputStream body = new GZIPInputStream(connection.getInputStream())) {
+			JsonNode boards = objectMapper.readTree(body);
+			then(boards).hasSize(200);
+		}
+	}
+
+	@Test
+	public void should_not_compress_the_boards_when_the_client_does_not_accept_it() throws Exception {
+		Board hrmTeam = repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
+
+		HttpURLConnection connection = open("/boards?stream=true");
+		connection.setRequestProperty("Accept-Encoding", "identity");
+
+		then(connection.getResponseCode()).isEqualTo(200);
+		then(connection.getHeaderField("Content-Encoding")).isNull();
+		try (InputStream body = connection.getInputStream()) {
+			then(objectMapper.readTree(body).get(0).get("name").asText()).isEqualTo(hrmTeam.getName());
+		}
+	}
+
+	private HttpURLConnection open(String path) throws IOException {
+		HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + port + path).openConnection();
+		connection.setRequestProperty("Accept-Encoding", "gzip");
+		return connection;
+	}
+}
@@ -0,0 +1,175 @@
+package com.taskboards.boards.web;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Matchers.any;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Scanner;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.embedded.EmbeddedServletContainerCustomizer;
+import org.springframework.boot.context.embedded.LocalServerPort;
+import org.springframework.boot.context.embedded.tomcat.TomcatEmbeddedServletContainerFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import com.taskboards.boards.BoardsApplication;
+import com.taskboards.boards.domain.Board;
+import com.taskboards.boards.domain.BoardRepository;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = { BoardsApplication.class, BoardExportTimeoutTest.ShortContainerAsyncTimeout.class },
+		webEnvironment = WebEnvironment.RANDOM_PORT, properties = { "spring.cloud.config.enabled=false",
+				"boards.api.stream-threads=1", "boards.api.stream-queue-capacity=0" })
+@ActiveProfiles("test")
+public class BoardExportTimeoutTest {
+
+	private static final long CONTAINER_ASYNC_TIMEOUT_MILLIS = 200;
+
+	@LocalServerPort
+	private int port;
+
+	@MockBean
+	private BoardRepository repository;
+
+	@Autowired
+	private RequestMappingHandlerAdapter handlerAdapter;
+
+	private final List<String> exportThreads = new CopyOnWriteArrayList<>();
+
+	@Test
+	public void should_finish_an_export_that_outlasts_the_default_async_timeout() throws Exception {
+		given(repository.streamAll(any(Sort.class))).willReturn(slowCursor(
+				new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"),
+				new Board("501st Legion TODO", "Vader's Fist TODO. *Should not be updated during battle!")));
+
+		HttpURLConnection connection = export();
+
+		then(connection.getResponseCode()).isEqualTo(200);
+		try (InputStream body = connection.getInputStream(); Scanner lines = new Scanner(body, "UTF-8")) {
+			then(lines.useDelimiter("\\A").next().split("\n")).hasSize(2);
+		}
+		then(exportThreads).hasSize(2).extracting(name -> name.startsWith("board-stream-")).containsOnly(true);
+	}
+
+	@Test
+	public void should_answer_ServiceUnavailable_when_every_stream_thread_is_busy() throws Exception {
+		CountDownLatch release = new CountDownLatch(1);
+		given(repository.streamAll(any(Sort.class))).willReturn(blockingCursor(release));
+		ExecutorService client = Executors.newSingleThreadExecutor();
+		try {
+			Future<Integer> first = client.submit(() -> export().getResponseCode());
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+			while (exportThreads.isEmpty() && System.nanoTime() < deadline) {
+				Thread.sleep(10);
+			}
+
+			HttpURLConnection second = export();
+
+			then(second.getResponseCode()).isEqualTo(503);
+			then(second.getHeaderField("Retry-After")).isEqualTo("1");
+			release.countDown();
+			then(first.get(5, TimeUnit.SECONDS)).isEqualTo(200);
+		} finally {
+			release.countDown();
+			client.shutdownNow();
+		}
+	}
+
+	@Test
+	public void should_leave_the_default_timeout_of_other_async_requests_alone() {
+		then(ReflectionTestUtils.getField(handlerAdapter, "asyncRequestTimeout")).isNull();
+	}
+
+	private HttpURLConnection export() throws IOException {
+		return (HttpURLConnection) new URL("http://localhost:" + port + "/boards/export").openConnection();
+	}
+
+	private CloseableIterator<Board> slowCursor(Board... boards) {
+		Iterator<Board> iterator = Arrays.asList(boards).iterator();
+		return new CloseableIterator<Board>() {
+
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public Board next() {
+				exportThreads.add(Thread.currentThread().getName());
+				try {
+					Thread.sleep(10 * CONTAINER_ASYNC_TIMEOUT_MILLIS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return iterator.next();
+			}
+
+			@Override
+			public void close() {
+			}
+		};
+	}
+
+	private CloseableIterator<Board> blockingCursor(CountDownLatch release) {
+		return new CloseableIterator<Board>() {
+
+			private boolean read;
+
+			@Override
+			public boolean hasNext() {
+				return !read;
+			}
+
+			@Override
+			public Board next() {
+				exportThreads.add(Thread.currentThread().getName());
+				try {
+					release.await(5, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				read = true;
+				return new Board("Team HRM", "");
+			}
+
+			@Override
+			public void close() {
+			}
+		};
+	}
+
+	@TestConfiguration
+	static class ShortContainerAsyncTimeout {
+
+		@Bean
+		public EmbeddedServletContainerCustomizer shortAsyncTimeout() {
+			return container -> ((TomcatEmbeddedServletContainerFactory) container)
+					.addConnectorCustomizers(connector -> connector.setAsyncTimeout(CONTAINER_ASYNC_TIMEOUT_MILLIS));
+		}
+	}
+}
@@ -0,0 +1,105 @@
+package com.taskboards.boards.web;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.context.web.WebAppConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.taskboards.boards.BoardsApplication;
+import com.taskboards.boards.domain.Board;
+import com.taskboards.boards.domain.BoardRepository;
+
+import io.micrometer.spring.web.servlet.WebMvcMetricsFilter;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = BoardsApplication.class, properties = "spring.cloud.config.enabled=false")
+@WebAppConfiguration
+@ActiveProfiles("test")
+public class BoardMetricsTest {
+
+	private MockMvc mockMvc;
+
+	@Autowired
+	private BoardRepository repository;
+
+	@Autowired
+	private WebMvcMetricsFilter metricsFilter;
+
+	@Autowired
+	private WebApplicationContext applicationContext;
+
+	@Before
+	public void setUp() {
+		this.mockMvc = MockMvcBuilders.webAppContextSetup(applicationContext).addFilters(metricsFilter).build();
+		this.repository.deleteAll();
+	}
+
+	@Test
+	public void should_expose_handler_repository_and_assembler_timings_in_prometheus_format() throws Exception {
+		repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
+		mockMvc.perform(get("/boards")).andExpect(status().isOk());
+		mockMvc.perform(get("/boards/{id}", "missing")).andExpect(status().isNotFound());
+
+		mockMvc.perform(get("/prometheus"))
+				.andExpect(status().isOk())
+				.andExpect(content().string(allOf(
+						containsString("http_server_requests_seconds_count{exception=\"None\",handler=\"getAll\",method=\"GET\",outcome=\"SUCCESSFUL\",status=\"200\",uri=\"/boards\",}"),
+						containsString("http_server_requests_seconds{exception=\"None\",handler=\"get\",method=\"GET\",outcome=\"CLIENT_ERROR\",status=\"404\",uri=\"/boards/{id}\",quantile=\"0.99\",}"),
+						containsString("boards_repository_seconds_count{exception=\"none\",method=\"findPage\",outcome=\"success\",}"),
+						containsString("boards_repository_seconds{exception=\"none\",method=\"findOne\",outcome=\"success\",quantile=\"0.95\",}"),
+						containsString("boards_assembler_seconds_count{operation=\"toResources\",}"),
+						containsString("boards_repository_coalesced_total{method=\"findOne\",}"))));
+	}
+
+	@Test
+	public void should_expose_mongo_command_stats_by_query_shape() throws Exception {
+		repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
+		mockMvc.perform(get("/boards/name={name}", "team")).andExpect(status().isOk());
+
+		mockMvc.perform(get("/mongoprofile").with(actuatorRole()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.slowCommandThresholdMillis", is(100)))
+				.andExpect(jsonPath("$.shapes[*].shape", hasItem(startsWith("find board filter={normalizedName: {$gte: ?, $lt: ?}}"))));
+	}
+
+	@Test
+	public void should_require_the_actuator_role_for_the_board_endpoints() throws Exception {
+		mockMvc.perform(get("/mongoprofile")).andExpect(status().isUnauthorized());
+		mockMvc.perform(get("/boardindexes")).andExpect(status().isUnauthorized());
+		mockMvc.perform(get("/boardadmission")).andExpect(status().isUnauthorized());
+	}
+
+	@Test
+	public void should_report_the_admission_limits_for_reads_and_writes() throws Exception {
+		mockMvc.perform(get("/boardadmission").with(actuatorRole()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.reads.limit", is(64)))
+				.andExpect(jsonPath("$.reads.inFlight", is(0)))
+				.andExpect(jsonPath("$.writes.limit", is(16)));
+	}
+
+	private static RequestPostProcessor actuatorRole() {
+		return request -> {
+			request.addUserRole("ACTUATOR");
+			return request;
+		};
+	}
+}
@@ -0,0 +1,68 @@
+package com.taskboards.boards.web;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.springframework.hateoas.mvc.ControllerLinkBuilder.linkTo;
+import static org.springframework.hateoas.mvc.ControllerLinkBuilder.methodOn;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.bson.types.ObjectId;
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.taskboards.boards.domain.Board;
+
+public class BoardResourceAssemblerTest {
+
+	private final BoardResourceAssembler assembler = new BoardResourceAssembler();
+
+	@After
+	public void resetRequest() {
+		RequestContextHolder.resetRequestAttributes();
+	}
+
+	@Test
+	public void shouldBuildTheSameSelfLinkAsTheControllerLinkBuilder() {
+		bindRequest(new MockHttpServletRequest("GET", "/boards"));
+
+		for (String id : Arrays.asList(new ObjectId().toHexString(), "501", "team hrm", "a/b", "ção")) {
+			then(selfHref(assembler.toResource(board(id)))).isEqualTo(controllerLinkBuilderHref(id));
+		}
+	}
+
+	@Test
+	public void shouldBuildTheSameSelfLinksBehindAProxy() {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/boards");
+		request.addHeader("X-Forwarded-Proto", "https");
+		request.addHeader("X-Forwarded-Host", "boards.example.com");
+		request.addHeader("X-Forwarded-Port", "8443");
+		bindRequest(request);
+		String id = new ObjectId().toHexString();
+
+		List<BoardResource> resources = assembler.toResources(Arrays.asList(board(id)));
+
+		then(selfHref(resources.get(0))).isEqualTo(controllerLinkBuilderHref(id)).startsWith("https://boards.example.com:8443/");
+	}
+
+	private void bindRequest(MockHttpServletRequest request) {
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+	}
+
+	private Board board(String id) {
+		Board board = new Board("Team HRM", "Hypermatter Reactor Maintenance Team board");
+		board.setId(id);
+		return board;
+	}
+
+	private String selfHref(BoardResource resource) {
+		return resource.getId().getHref();
+	}
+
+	private String controllerLinkBuilderHref(String id) {
+		return linkTo(methodOn(BoardRestController.class).head(id, null)).withSelfRel().getHref();
+	}
+}
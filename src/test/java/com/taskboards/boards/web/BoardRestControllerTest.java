@@ -1,335 +1,760 @@
-package com.taskboards.boards.web;
-
-import static org.hamcrest.Matchers.hasSize;
-import static org.hamcrest.Matchers.is;
-import static org.junit.Assert.assertNotNull;
-import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
-import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
-import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
-import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
-import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
-
-import java.io.IOException;
-import java.io.UnsupportedEncodingException;
-import java.nio.charset.Charset;
-import java.util.Arrays;
-import java.util.List;
-
-import org.junit.Before;
-import org.junit.Test;
-import org.junit.runner.RunWith;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.http.MediaType;
-import org.springframework.http.converter.HttpMessageConverter;
-import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
-import org.springframework.mock.http.MockHttpOutputMessage;
-import org.springframework.test.context.ActiveProfiles;
-import org.springframework.test.context.junit4.SpringRunner;
-import org.springframework.test.context.web.WebAppConfiguration;
-import org.springframework.test.web.servlet.MockMvc;
-import org.springframework.test.web.servlet.ResultActions;
-import org.springframework.test.web.servlet.setup.MockMvcBuilders;
-import org.springframework.web.context.WebApplicationContext;
-
-import com.jayway.jsonpath.JsonPath;
-import com.taskboards.boards.BoardsApplication;
-import com.taskboards.boards.domain.Board;
-import com.taskboards.boards.domain.BoardRepository;
-
-@RunWith(SpringRunner.class)
-@SpringBootTest(classes = BoardsApplication.class, properties = "spring.cloud.config.enabled=false")
-@WebAppConfiguration
-@ActiveProfiles("test")
-public class BoardRestControllerTest {
-
-	private static final String BOARDS_ROOT_ENDPOINT = "/boards";
-	private static final String ALL_BOARDS_BY_NAME_FILTER_ENDPOINT = "/boards/name={name}";
-	private static final String BOARD_BY_ID_ENDPOINT = "/boards/{id}";
-
-	private MockMvc mockMvc;
-	
-	@SuppressWarnings("rawtypes")
-	private HttpMessageConverter mappingJackson2HttpMessageConverter;
-
-	@Autowired
-	private BoardRepository repository;
-
-	@Autowired
-	private WebApplicationContext applicationContext;
-	
-	@Autowired
-    void setConverters(HttpMessageConverter<?>[] converters) {
-
-        this.mappingJackson2HttpMessageConverter = Arrays.asList(converters).stream()
-            .filter(hmc -> hmc instanceof MappingJackson2HttpMessageConverter)
-            .findAny()
-            .orElse(null);
-
-        assertNotNull("the JSON message converter must not be null", this.mappingJackson2HttpMessageConverter);
-    }
-
-	private MediaType contentType = new MediaType(MediaType.APPLICATION_JSON.getType(),
-			MediaType.APPLICATION_JSON.getSubtype(), Charset.forName("utf8"));
-
-	@Before
-	public void setUp() {
-		this.mockMvc = MockMvcBuilders.webAppContextSetup(applicationContext).build();
-		this.repository.deleteAll();
-	}
-
-	@Test
-	public void should_return_NotFound_when_no_board_is_persisted() throws Exception {
-		ResultActions result = performGetOn(BOARDS_ROOT_ENDPOINT);
-
-		result.andExpect(status().isNotFound());
-	}
-
-	@Test
-	public void should_return_the_persisted_board() throws Exception {
-		Board hrmTeam = repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
-
-		ResultActions result = performGetOn(BOARDS_ROOT_ENDPOINT);
-
-		assertNumberOfBoardsReturned(result, 1);
-		assertBoardIsPresentWithCorrectData(result, hrmTeam);
-	}
-
-	@Test
-	public void should_return_all_persisted_boards() throws Exception {
-		Board hrmTeam = repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
-		Board teamTIE = repository.save(new Board("Team TIE Wash and Wax Kanban", "Use is mandatory, Vader's orders."));
-		Board vaderFist = repository.save(new Board("501st Legion TODO", "Vader's Fist TODO. *Should not be updated during battle!"));
-
-		ResultActions result = performGetOn(BOARDS_ROOT_ENDPOINT);
-
-		assertNumberOfBoardsReturned(result, 3);
-		assertBoardIsPresentWithCorrectData(result, hrmTeam);
-		assertBoardIsPresentWithCorrectData(result, teamTIE);
-		assertBoardIsPresentWithCorrectData(result, vaderFist);
-	}
-
-	@Test
-	public void should_return_NotFound_when_no_board_name_start_with_provided_parameter() throws Exception {
-		repository.save(new Board("501st Legion TODO", "Vader's Fist TODO. *Should not be updated during battle!"));
-
-		ResultActions result = performGetOnWithParameter(ALL_BOARDS_BY_NAME_FILTER_ENDPOINT, "Team TIE");
-
-		result.andExpect(status().isNotFound());
-	}
-
-	@Test
-	public void should_return_the_board_with_name_starting_as_provided_parameter_ignoring_case() throws Exception {
-		repository.save(new Board("501st Legion TODO", "Vader's Fist TODO. *Should not be updated during battle!"));
-		Board hrmTeam = repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
-
-		ResultActions result = performGetOnWithParameter(ALL_BOARDS_BY_NAME_FILTER_ENDPOINT, "team");
-
-		assertNumberOfBoardsReturned(result, 1);
-		assertBoardIsPresentWithCorrectData(result, hrmTeam);
-	}
-
-	@Test
-	public void should_return_all_boards_with_name_starting_as_provided_parameter_ignoring_case() throws Exception {
-		repository.save(new Board("501st Legion TODO", "Vader's Fist TODO. *Should not be updated during battle!"));
-		Board hrmTeam = repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
-		Board teamTIE = repository.save(new Board("Team TIE Wash and Wax Kanban", "Use is mandatory, Vader's orders."));
-
-		ResultActions result = performGetOnWithParameter(ALL_BOARDS_BY_NAME_FILTER_ENDPOINT, "TEAM");
-
-		assertNumberOfBoardsReturned(result, 2);
-		assertBoardIsPresentWithCorrectData(result, hrmTeam);
-		assertBoardIsPresentWithCorrectData(result, teamTIE);
-	}
-
-	@Test
-	public void should_return_NotFound_when_no_board_have_the_id_provided() throws Exception {
-		repository.save(new Board("501st Legion TODO", "Vader's Fist TODO. *Should not be updated during battle!"));
-
-		ResultActions result = performGetOnWithParameter(BOARD_BY_ID_ENDPOINT, "33");
-
-		result.andExpect(status().isNotFound());
-	}
-
-	@Test
-	public void should_return_the_board_with_id_equals_the_provided_parameter() throws Exception {
-		repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
-		repository.save(new Board("Team TIE Wash and Wax Kanban", "Use is mandatory, Vader's orders."));
-		Board vaderFist = repository.save(new Board("501st Legion TODO", "Vader's Fist TODO. *Should not be updated during battle!"));
-
-		ResultActions result = performGetOnWithParameter(BOARD_BY_ID_ENDPOINT, vaderFist.getId().toString());
-
-		assertBoardDataIsCorrect(result, vaderFist);
-	}
-	
-	@Test
-	public void should_return_UnprocessableEntity_when_trying_to_create_a_board_with_no_name() throws Exception {
-		ResultActions result = performPostOnWithBoard(BOARDS_ROOT_ENDPOINT, new Board("", ""));
-		
-		result.andExpect(status().isUnprocessableEntity()); 
-	}
-	
-	@Test
-	public void should_return_saved_board() throws Exception {
-		Board teamTIE = new Board("Team TIE Wash and Wax Kanban", "Use is mandatory, Vader's orders.");
-		
-		ResultActions result = performPostOnWithBoard(BOARDS_ROOT_ENDPOINT, teamTIE);
-		teamTIE.setId(getIdReturned(result));
-		
-		assertBoardDataIsCorrect(result, teamTIE);
-		
-	}
-	
-	@Test
-	public void should_persist_saved_board() throws Exception {
-		Board teamTIE = new Board("Team TIE Wash and Wax Kanban", "Use is mandatory, Vader's orders.");
-		
-		ResultActions  resultPost = performPostOnWithBoard(BOARDS_ROOT_ENDPOINT, teamTIE);
-		teamTIE.setId(getIdReturned(resultPost));
-				
-		ResultActions resultGet = performGetOnWithParameter(BOARD_BY_ID_ENDPOINT, teamTIE.getId().toString());
-		assertBoardDataIsCorrect(resultGet, teamTIE);
-	}
-	
-	@Test
-	public void should_return_UnprocessableEntity_when_the_edited_board_does_not_exists() throws Exception {
-		Board editedTeamHRM = new Board("Team HRM TODO", "Hypermatter Reactor Maintenance Team TODO board");
-		
-		ResultActions result = performPutOnWithParameterAndBoard(BOARD_BY_ID_ENDPOINT, "501", editedTeamHRM);
-		
-		result.andExpect(status().isUnprocessableEntity()); 
-	}
-	
-	@Test
-	public void should_return_UnprocessableEntity_when_the_edition_removes_the_board_name() throws Exception {
-		String hrmTeamBoardID = repository.save(new Board("HRM Team", "Hypermatter Reactor Maintenance Team board")).getId();		
-		Board editedTeamHRM = new Board("", "Hypermatter Reactor Maintenance Team TODO board");
-
-		ResultActions result = performPutOnWithParameterAndBoard(BOARD_BY_ID_ENDPOINT, hrmTeamBoardID.toString(), editedTeamHRM);
-		
-		result.andExpect(status().isUnprocessableEntity()); 
-	}
-
-	@Test
-	public void should_return_the_edited_board() throws Exception {
-		String hrmTeamBoardID = repository.save(new Board("HRM Team", "Hypermatter Reactor Maintenance Team board")).getId();		
-		Board editedTeamHRM = new Board("Team HRM TODO", "Hypermatter Reactor Maintenance Team TODO board");
-
-		ResultActions result = performPutOnWithParameterAndBoard(BOARD_BY_ID_ENDPOINT, hrmTeamBoardID.toString(), editedTeamHRM);
-		editedTeamHRM.setId(hrmTeamBoardID);
-
-		assertBoardDataIsCorrect(result, editedTeamHRM);
-	}
-	
-	@Test
-	public void should_persist_the_editions_on_board() throws Exception {
-		String hrmTeamBoardID = repository.save(new Board("HRM Team", "Hypermatter Reactor Maintenance Team board")).getId();		
-		Board editedTeamHRM = new Board("Team HRM TODO", "Hypermatter Reactor Maintenance Team TODO board");
-
-		performPutOnWithParameterAndBoard(BOARD_BY_ID_ENDPOINT, hrmTeamBoardID.toString(), editedTeamHRM);
-		editedTeamHRM.setId(hrmTeamBoardID);
-
-		ResultActions resultGet = performGetOnWithParameter(BOARD_BY_ID_ENDPOINT, hrmTeamBoardID.toString());
-		assertBoardDataIsCorrect(resultGet, editedTeamHRM);
-	}
-
-	@Test
-	public void should_return_UnprocessableEntity_when_the_deleted_board_does_not_exists() throws Exception {
-		ResultActions result = performDelete(BOARD_BY_ID_ENDPOINT, "501");
-		
-		result.andExpect(status().isUnprocessableEntity()); 
-	}
-	
-	@Test
-	public void should_return_deleted_board() throws Exception {
-		Board vaderFist = repository.save(new Board("501st Legion TODO", "Vader's Fist TODO. *Should not be updated during battle!"));
-
-		ResultActions result = performDelete(BOARD_BY_ID_ENDPOINT, vaderFist.getId().toString());
-
-		assertBoardDataIsCorrect(result, vaderFist);
-	}
-	
-	@Test
-	public void should_not_return_deleted_boards_in_futures_requets() throws Exception {
-		Board hrmTeam = repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
-		Board teamTIE = repository.save(new Board("Team TIE Wash and Wax Kanban", "Use is mandatory, Vader's orders."));
-		Board vaderFist = repository.save(new Board("501st Legion TODO", "Vader's Fist TODO. *Should not be updated during battle!"));
-
-		performDelete(BOARD_BY_ID_ENDPOINT, vaderFist.getId().toString());
-		
-		ResultActions result = performGetOn(BOARDS_ROOT_ENDPOINT);
-		assertNumberOfBoardsReturned(result, 2);
-		assertBoardIsPresentWithCorrectData(result, hrmTeam);
-		assertBoardIsPresentWithCorrectData(result, teamTIE);
-		
-		result = performGetOnWithParameter(BOARD_BY_ID_ENDPOINT, vaderFist.getId().toString());
-		result.andExpect(status().isNotFound());
-	}
-
-	private ResultActions performGetOn(String endpoint) throws Exception {
-		return mockMvc.perform(get(endpoint));
-	}
-
-	private ResultActions performGetOnWithParameter(String endpoint, String parameter) throws Exception {
-		return mockMvc.perform(get(endpoint, parameter));
-	}
-	
-	private ResultActions performPostOnWithBoard(String boardsRootEndpoint, Board parameter) throws Exception {
-		return mockMvc.perform(post(boardsRootEndpoint).contentType(contentType).content(toJson(parameter)));
-	}
-	
-	private ResultActions performPutOnWithParameterAndBoard(String boardsRootEndpoint, String parameter, Board board) throws Exception {
-		return mockMvc.perform(put(boardsRootEndpoint, parameter).contentType(contentType).content(toJson(board)));
-	}
-
-	private void assertNumberOfBoardsReturned(ResultActions perform, int expectedListSize) throws Exception {
-		perform.andDo(print()).andExpect(status().isOk()).andExpect(content().contentType(contentType)).andExpect(jsonPath("$", hasSize(expectedListSize)));
-	}
-	
-	private ResultActions performDelete(String endpoint, String parameter) throws Exception {
-		return mockMvc.perform(delete(endpoint, parameter));
-	}
-
-	private void assertBoardIsPresentWithCorrectData(ResultActions perform, Board board) throws Exception {
-		int index = getBoardIndex(perform, board);
-		perform.andDo(print()).andExpect(jsonPath("$[" + index + "].id", is(board.getId())))
-				.andExpect(jsonPath("$[" + index + "].name", is(board.getName())))
-				.andExpect(jsonPath("$[" + index + "].description", is(board.getDescription())))
-				.andExpect(jsonPath("$[" + index + "].persisted", is(true)))
-				.andExpect(jsonPath("$[" + index + "].links", hasSize(1)))
-				.andExpect(jsonPath("$[" + index + "].links[0].rel", is("self")))
-				.andExpect(jsonPath("$[" + index + "].links[0].href", is("http://localhost/boards/" + board.getId())));
-	}
-
-	private void assertBoardDataIsCorrect(ResultActions perform, Board board) throws Exception {
-		perform.andDo(print()).andExpect(jsonPath("name", is(board.getName())))
-				.andExpect(jsonPath("description", is(board.getDescription())))
-				.andExpect(jsonPath("persisted", is(true)))
-				.andExpect(jsonPath("_links.self.href", is("http://localhost/boards/" + board.getId())));
-	}
-
-	private String getIdReturned(ResultActions result) throws UnsupportedEncodingException {
-		return JsonPath.read(result.andReturn().getResponse().getContentAsString(), "$.id");
-	}
-	
-	private int getBoardIndex(ResultActions perform, Board board) throws UnsupportedEncodingException {
-		List<String> ids = JsonPath.read(perform.andReturn().getResponse().getContentAsString(), "$.[*].id");
-		int index = 0;
-		for (String id : ids) {
-			if (id.equals(board.getId())) return index;
-			index++;
-		}
-		return -1;
-	}
-	
-	@SuppressWarnings("unchecked")
-	private String toJson(Object o) throws IOException {
-        MockHttpOutputMessage mockHttpOutputMessage = new MockHttpOutputMessage();
-        this.mappingJackson2HttpMessageConverter.write(o, MediaType.APPLICATION_JSON, mockHttpOutputMessage);
-        return mockHttpOutputMessage.getBodyAsString();
-    }
-
-}
+package com.taskboards.boards.web;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.junit.Assert.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.head;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.context.web.WebAppConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.jayway.jsonpath.JsonPath;
+import com.mongodb.BasicDBObject;
+import com.taskboards.boards.BoardsApplication;
+import com.taskboards.boards.BoardsProperties;
+import com.taskboards.boards.domain.Board;
+import com.taskboards.boards.domain.BoardRepository;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = BoardsApplication.class, properties = "spring.cloud.config.enabled=false")
+@WebAppConfiguration
+@ActiveProfiles("test")
+public class BoardRestControllerTest {
+
+	private static final String BOARDS_ROOT_ENDPOINT = "/boards";
+	private static final String ALL_BOARDS_BY_NAME_FILTER_ENDPOINT = "/boards/name={name}";
+	private static final String BOARD_BY_ID_ENDPOINT = "/boards/{id}";
+	private static final String BOARDS_COUNT_ENDPOINT = "/boards/count";
+
+	private MockMvc mockMvc;
+	
+	@SuppressWarnings("rawtypes")
+	private HttpMessageConverter mappingJackson2HttpMessageConverter;
+
+	@Autowired
+	private BoardRepository repository;
+
+	@Autowired
+	private WebApplicationContext applicationContext;
+
+	@Autowired
+	private BoardsProperties properties;
+
+	@Autowired
+	private MongoTemplate mongoTemplate;
+	
+	@Autowired
+    void setConverters(HttpMessageConverter<?>[] converters) {
+
+        this.mappingJackson2HttpMessageConverter = Arrays.asList(converters).stream()
+            .filter(hmc -> hmc instanceof MappingJackson2HttpMessageConverter)
+            .findAny()
+            .orElse(null);
+
+        assertNotNull("the JSON message converter must not be null", this.mappingJackson2HttpMessageConverter);
+    }
+
+	private MediaType contentType = new MediaType(MediaType.APPLICATION_JSON.getType(),
+			MediaType.APPLICATION_JSON.getSubtype(), Charset.forName("utf8"));
+
+	@Before
+	public void setUp() {
+		this.mockMvc = MockMvcBuilders.webAppContextSetup(applicationContext).build();
+		this.repository.deleteAll();
+	}
+
+	@Test
+	public void should_return_NotFound_when_no_board_is_persisted() throws Exception {
+		ResultActions result = performGetOn(BOARDS_ROOT_ENDPOINT);
+
+		result.andExpect(status().isNotFound());
+	}
+
+	@Test
+	public void should_return_the_persisted_board() throws Exception {
+		Board hrmTeam = repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
+
+		ResultActions result = performGetOn(BOARDS_ROOT_ENDPOINT);
+
+		assertNumberOfBoardsReturned(result, 1);
+		assertBoardIsPresentWithCorrectData(result, hrmTeam);
+	}
+
+	@Test
+	public void should_return_all_persisted_boards() throws Exception {
+		Board hrmTeam = repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
+		Board teamTIE = repository.save(new Board("Team TIE Wash and Wax Kanban", "Use is mandatory, Vader's orders."));
+		Board vaderFist = repository.save(new Board("501st Legion TODO", "Vader's Fist TODO. *Should not be updated during battle!"));
+
+		ResultActions result = performGetOn(BOARDS_ROOT_ENDPOINT);
+
+		assertNumberOfBoardsReturned(result, 3);
+		assertBoardIsPresentWithCorrectData(result, hrmTeam);
+		assertBoardIsPresentWithCorrectData(result, teamTIE);
+		assertBoardIsPresentWithCorrectData(result, vaderFist);
+	}
+
+	@Test
+	public void should_return_only_the_requested_page_size_with_a_link_to_the_next_page() throws Exception {
+		Board hrmTeam = repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
+		Board teamTIE = repository.save(new Board("Team TIE Wash and Wax Kanban", "Use is mandatory, Vader's orders."));
+		repository.save(new Board("501st Legion TODO", "Vader's Fist TODO. *Should not be updated during battle!"));
+
+		ResultActions result = perform(get(BOARDS_ROOT_ENDPOINT).param("size", "2"));
+
+		assertNumberOfBoardsReturned(result, 2);
+		assertBoardIsPresentWithCorrectData(result, hrmTeam);
+		assertBoardIsPresentWithCorrectData(result, teamTIE);
+		result.andExpect(header().string("Link", containsString("rel=\"next\"")));
+	}
+
+	@Test
+	public void should_return_the_page_after_the_provided_cursor() throws Exception {
+		repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
+		repository.save(new Board("Team TIE Wash and Wax Kanban", "Use is mandatory, Vader's orders."));
+		Board vaderFist = repository.save(new Board("501st Legion TODO", "Vader's Fist TODO. *Should not be updated during battle!"));
+		String nextPage = getLinkReturned(perform(get(BOARDS_ROOT_ENDPOINT).param("size", "2")), "next");
+
+		ResultActions result = performGetOn(nextPage);
+
+		assertNumberOfBoardsReturned(result, 1);
+		assertBoardIsPresentWithCorrectData(result, vaderFist);
+		result.andExpect(header().string("Link", containsString("rel=\"prev\"")));
+	}
+
+	@Test
+	public void should_return_the_boards_sorted_by_the_provided_property_and_direction() throws Exception {
+		Board hrmTeam = repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
+		Board teamTIE = repository.save(new Board("Team TIE Wash and Wax Kanban", "Use is mandatory, Vader's orders."));
+		Board vaderFist = repository.save(new Board("501st Legion TODO", "Vader's Fist TODO. *Should not be updated during battle!"));
+
+		ResultActions result = perform(get(BOARDS_ROOT_ENDPOINT).param("sort", "name,desc"));
+
+		assertNumberOfBoardsReturned(result, 3);
+		result.andExpect(jsonPath("$[0].id", is(teamTIE.getId())))
+				.andExpect(jsonPath("$[1].id", is(hrmTeam.getId())))
+				.andExpect(jsonPath("$[2].id", is(vaderFist.getId())));
+	}
+
+	@Test
+	public void should_return_BadRequest_when_sorting_by_an_unknown_property() throws Exception {
+		repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
+
+		ResultActions result = perform(get(BOARDS_ROOT_ENDPOINT).param("sort", "description"));
+
+		result.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	public void should_return_BadRequest_when_paging_after_a_malformed_cursor() throws Exception {
+		repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
+
+		ResultActions result = perform(get(BOARDS_ROOT_ENDPOINT).param("after", "not-a-cursor"));
+
+		result.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	public void should_return_only_the_requested_fields_of_each_board() throws Exception {
+		Board hrmTeam = repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
+
+		ResultActions result = perform(get(BOARDS_ROOT_ENDPOINT).param("fields", "id,name").param("sort", "name"));
+
+		assertNumberOfBoardsReturned(result, 1);
+		result.andExpect(jsonPath("$[0].id", is(hrmTeam.getId())))
+				.andExpect(jsonPath("$[0].name", is(hrmTeam.getName())))
+				.andExpect(jsonPath("$[0].description").doesNotExist())
+				.andExpect(jsonPath("$[0].version").doesNotExist())
+				.andExpect(jsonPath("$[0].links[0].href", is("http://localhost/boards/" + hrmTeam.getId())));
+	}
+
+	@Test
+	public void should_return_only_the_requested_fields_of_the_boards_found_by_name_or_id() throws Exception {
+		Board hrmTeam = repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
+
+		ResultActions byName = perform(get(ALL_BOARDS_BY_NAME_FILTER_ENDPOINT, "team").param("fields", "name"));
+		ResultActions byId = perform(get(BOARD_BY_ID_ENDPOINT, hrmTeam.getId()).param("fields", "description"));
+
+		assertNumberOfBoardsReturned(byName, 1);
+		byName.andExpect(jsonPath("$[0].name", is(hrmTeam.getName())))
+				.andExpect(jsonPath("$[0].id").doesNotExist())
+				.andExpect(jsonPath("$[0].description").doesNotExist());
+		byId.andExpect(status().isOk())
+				.andExpect(jsonPath("description", is(hrmTeam.getDescription())))
+				.andExpect(jsonPath("name").doesNotExist())
+				.andExpect(jsonPath("_links.self.href", is("http://localhost/boards/" + hrmTeam.getId())));
+	}
+
+	@Test
+	public void should_return_BadRequest_when_requesting_an_unknown_field() throws Exception {
+		repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
+
+		ResultActions result = perform(get(BOARDS_ROOT_ENDPOINT).param("fields", "id,normalizedName"));
+
+		result.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	public void should_return_the_boards_in_the_binary_format_requested_by_mediaType() throws Exception {
+		Board hrmTeam = repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
+
+		ResultActions result = perform(get(BOARDS_ROOT_ENDPOINT).param("mediaType", "cbor").param("fields", "id,name"));
+
+		result.andExpect(status().isOk()).andExpect(content().contentType("application/cbor"));
+		JsonNode boards = new ObjectMapper(new CBORFactory()).readTree(result.andReturn().getResponse().getContentAsByteArray());
+		then(boards).hasSize(1);
+		then(boards.get(0).get("id").asText()).isEqualTo(hrmTeam.getId());
+		then(boards.get(0).get("name").asText()).isEqualTo(hrmTeam.getName());
+		then(boards.get(0).has("description")).isFalse();
+	}
+
+	@Test
+	public void should_save_a_board_sent_and_requested_in_smile() throws Exception {
+		ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+		Board teamTIE = new Board("Team TIE Wash and Wax Kanban", "Use is mandatory, Vader's orders.");
+
+		ResultActions result = perform(post(BOARDS_ROOT_ENDPOINT).param("mediaType", "smile")
+				.contentType("application/x-jackson-smile").content(smileMapper.writeValueAsBytes(teamTIE)));
+
+		result.andExpect(status().isOk()).andExpect(content().contentType("application/x-jackson-smile"));
+		JsonNode saved = smileMapper.readTree(result.andReturn().getResponse().getContentAsByteArray());
+		then(saved.get("name").asText()).isEqualTo(teamTIE.getName());
+		then(repository.findOne(saved.get("id").asText()).getDescription()).isEqualTo(teamTIE.getDescription());
+	}
+
+	@Test
+	public void should_ignore_the_Accept_header_unless_accept_header_negotiation_is_enabled() throws Exception {
+		repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
+
+		ResultActions result = perform(get(BOARDS_ROOT_ENDPOINT).accept("application/cbor"));
+
+		assertNumberOfBoardsReturned(result, 1);
+	}
+
+	@Test
+	public void should_stream_only_the_requested_fields_of_each_board() throws Exception {
+		Board hrmTeam = repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
+
+		ResultActions result = perform(get(BOARDS_ROOT_ENDPOINT).param("stream", "true").param("fields", "id"));
+
+		assertNumberOfBoardsReturned(result, 1);
+		result.andExpect(jsonPath("$[0].id", is(hrmTeam.getId())))
+				.andExpect(jsonPath("$[0].name").doesNotExist());
+	}
+
+	@Test
+	public void should_stream_all_persisted_boards() throws Exception {
+		Board hrmTeam = repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
+		Board teamTIE = repository.save(new Board("Team TIE Wash and Wax Kanban", "Use is mandatory, Vader's orders."));
+		Board vaderFist = repository.save(new Board("501st Legion TODO", "Vader's Fist TODO. *Should not be updated during battle!"));
+
+		ResultActions result = performStreamingGetOn(BOARDS_ROOT_ENDPOINT);
+
+		assertNumberOfBoardsReturned(result, 3);
+		assertBoardIsPresentWithCorrectData(result, hrmTeam);
+		assertBoardIsPresentWithCorrectData(result, teamTIE);
+		assertBoardIsPresentWithCorrectData(result, vaderFist);
+	}
+
+	@Test
+	public void should_stream_the_boards_with_the_configured_async_timeout() throws Exception {
+		repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
+
+		MvcResult streaming = mockMvc.perform(get(BOARDS_ROOT_ENDPOINT).param("stream", "true")).andReturn();
+
+		then(streaming.getRequest().getAsyncContext().getTimeout()).isEqualTo(properties.getApi().getStreamTimeoutMillis());
+		streaming.getAsyncResult();
+		then(streaming.getResponse().getContentAsString()).startsWith("[").endsWith("]");
+	}
+
+	@Test
+	public void should_return_NotModified_when_the_boards_did_not_change_since_the_provided_etag() throws Exception {
+		repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
+		String eTag = getETagReturned(performGetOn(BOARDS_ROOT_ENDPOINT));
+
+		ResultActions result = perform(get(BOARDS_ROOT_ENDPOINT).header("If-None-Match", eTag));
+
+		result.andExpect(status().isNotModified()).andExpect(content().string(""));
+	}
+
+	@Test
+	public void should_return_the_boards_again_when_a_board_changed_since_the_provided_etag() throws Exception {
+		repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
+		String eTag = getETagReturned(performGetOn(BOARDS_ROOT_ENDPOINT));
+		repository.save(new Board("Team TIE Wash and Wax Kanban", "Use is mandatory, Vader's orders."));
+
+		ResultActions result = perform(get(BOARDS_ROOT_ENDPOINT).header("If-None-Match", eTag));
+
+		assertNumberOfBoardsReturned(result, 2);
+	}
+
+	@Test
+	public void should_answer_HEAD_on_boards_with_the_board_count_and_no_body() throws Exception {
+		repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
+		repository.save(new Board("Team TIE Wash and Wax Kanban", "Use is mandatory, Vader's orders."));
+
+		ResultActions result = perform(head(BOARDS_ROOT_ENDPOINT));
+
+		result.andExpect(status().isOk()).andExpect(header().string("X-Total-Count", "2")).andExpect(content().string(""));
+	}
+
+	@Test
+	public void should_answer_HEAD_on_boards_with_the_validators_and_links_of_GET() throws Exception {
+		repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
+		repository.save(new Board("Team TIE Wash and Wax Kanban", "Use is mandatory, Vader's orders."));
+		ResultActions getResult = perform(get(BOARDS_ROOT_ENDPOINT).param("size", "1"));
+
+		ResultActions result = perform(head(BOARDS_ROOT_ENDPOINT).param("size", "1"));
+
+		result.andExpect(status().isOk()).andExpect(header().string("ETag", getETagReturned(getResult)));
+		then(getLinkReturned(result, "next")).isEqualTo(getLinkReturned(getResult, "next"));
+		perform(head(BOARDS_ROOT_ENDPOINT).header("If-None-Match", getETagReturned(getResult)))
+				.andExpect(status().isNotModified());
+	}
+
+	@Test
+	public void should_answer_HEAD_on_boards_without_links_when_no_page_is_requested() throws Exception {
+		repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
+		repository.save(new Board("Team TIE Wash and Wax Kanban", "Use is mandatory, Vader's orders."));
+		ResultActions getResult = perform(get(BOARDS_ROOT_ENDPOINT));
+
+		ResultActions result = perform(head(BOARDS_ROOT_ENDPOINT));
+
+		result.andExpect(status().isOk()).andExpect(header().string("ETag", getETagReturned(getResult)))
+				.andExpect(header().string("X-Total-Count", "2")).andExpect(header().doesNotExist("Link"));
+	}
+
+	@Test
+	public void should_answer_HEAD_on_boards_with_NotFound_when_no_board_is_persisted() throws Exception {
+		ResultActions result = perform(head(BOARDS_ROOT_ENDPOINT));
+
+		result.andExpect(status().isNotFound()).andExpect(header().string("X-Total-Count", "0"));
+	}
+
+	@Test
+	public void should_count_all_boards_or_those_with_name_starting_as_provided_parameter() throws Exception {
+		repository.save(new Board("501st Legion TODO", "Vader's Fist TODO. *Should not be updated during battle!"));
+		repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
+		repository.save(new Board("Team TIE Wash and Wax Kanban", "Use is mandatory, Vader's orders."));
+
+		perform(get(BOARDS_COUNT_ENDPOINT)).andExpect(status().isOk()).andExpect(jsonPath("$.count", is(3)));
+		perform(get(BOARDS_COUNT_ENDPOINT).param("name", "TEAM")).andExpect(status().isOk()).andExpect(jsonPath("$.count", is(2)));
+		perform(get(BOARDS_COUNT_ENDPOINT).param("name", "Sith")).andExpect(status().isOk()).andExpect(jsonPath("$.count", is(0)));
+	}
+
+	@Test
+	public void should_answer_HEAD_on_a_board_id_with_whether_the_board_exists() throws Exception {
+		Board vaderFist = repository.save(new Board("501st Legion TODO", "Vader's Fist TODO. *Should not be updated during battle!"));
+
+		perform(head(BOARD_BY_ID_ENDPOINT, vaderFist.getId())).andExpect(status().isOk()).andExpect(content().string(""));
+		perform(head(BOARD_BY_ID_ENDPOINT, "33")).andExpect(status().isNotFound());
+	}
+
+	@Test
+	public void should_answer_HEAD_on_a_board_id_with_the_etag_of_GET() throws Exception {
+		Board vaderFist = repository.save(new Board("501st Legion TODO", "Vader's Fist TODO. *Should not be updated during battle!"));
+		String eTag = getETagReturned(performGetOnWithParameter(BOARD_BY_ID_ENDPOINT, vaderFist.getId()));
+
+		perform(head(BOARD_BY_ID_ENDPOINT, vaderFist.getId())).andExpect(status().isOk()).andExpect(header().string("ETag", eTag));
+		perform(head(BOARD_BY_ID_ENDPOINT, vaderFist.getId()).header("If-None-Match", eTag)).andExpect(status().isNotModified());
+	}
+
+	@Test
+	public void should_answer_HEAD_on_a_board_without_version_with_the_content_etag_of_GET() throws Exception {
+		BasicDBObject legacyBoard = new BasicDBObject("name", "Legacy Board").append("description", "Before versions");
+		mongoTemplate.getCollection(mongoTemplate.getCollectionName(Board.class)).insert(legacyBoard);
+		String id = legacyBoard.getObjectId("_id").toHexString();
+		String eTag = getETagReturned(performGetOnWithParameter(BOARD_BY_ID_ENDPOINT, id));
+
+		perform(head(BOARD_BY_ID_ENDPOINT, id)).andExpect(status().isOk()).andExpect(header().string("ETag", eTag));
+	}
+
+	@Test
+	public void should_return_NotFound_when_no_board_name_start_with_provided_parameter() throws Exception {
+		repository.save(new Board("501st Legion TODO", "Vader's Fist TODO. *Should not be updated during battle!"));
+
+		ResultActions result = performGetOnWithParameter(ALL_BOARDS_BY_NAME_FILTER_ENDPOINT, "Team TIE");
+
+		result.andExpect(status().isNotFound());
+	}
+
+	@Test
+	public void should_return_the_board_with_name_starting_as_provided_parameter_ignoring_case() throws Exception {
+		repository.save(new Board("501st Legion TODO", "Vader's Fist TODO. *Should not be updated during battle!"));
+		Board hrmTeam = repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
+
+		ResultActions result = performGetOnWithParameter(ALL_BOARDS_BY_NAME_FILTER_ENDPOINT, "team");
+
+		assertNumberOfBoardsReturned(result, 1);
+		assertBoardIsPresentWithCorrectData(result, hrmTeam);
+	}
+
+	@Test
+	public void should_return_all_boards_with_name_starting_as_provided_parameter_ignoring_case() throws Exception {
+		repository.save(new Board("501st Legion TODO", "Vader's Fist TODO. *Should not be updated during battle!"));
+		Board hrmTeam = repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
+		Board teamTIE = repository.save(new Board("Team TIE Wash and Wax Kanban", "Use is mandatory, Vader's orders."));
+
+		ResultActions result = performGetOnWithParameter(ALL_BOARDS_BY_NAME_FILTER_ENDPOINT, "TEAM");
+
+		assertNumberOfBoardsReturned(result, 2);
+		assertBoardIsPresentWithCorrectData(result, hrmTeam);
+		assertBoardIsPresentWithCorrectData(result, teamTIE);
+	}
+
+	@Test
+	public void should_return_NotFound_when_no_board_have_the_id_provided() throws Exception {
+		repository.save(new Board("501st Legion TODO", "Vader's Fist TODO. *Should not be updated during battle!"));
+
+		ResultActions result = performGetOnWithParameter(BOARD_BY_ID_ENDPOINT, "33");
+
+		result.andExpect(status().isNotFound());
+	}
+
+	@Test
+	public void should_return_the_board_with_id_equals_the_provided_parameter() throws Exception {
+		repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
+		repository.save(new Board("Team TIE Wash and Wax Kanban", "Use is mandatory, Vader's orders."));
+		Board vaderFist = repository.save(new Board("501st Legion TODO", "Vader's Fist TODO. *Should not be updated during battle!"));
+
+		ResultActions result = performGetOnWithParameter(BOARD_BY_ID_ENDPOINT, vaderFist.getId().toString());
+
+		assertBoardDataIsCorrect(result, vaderFist);
+	}
+	
+	@Test
+	public void should_return_NotModified_when_the_board_did_not_change_since_the_provided_etag() throws Exception {
+		Board vaderFist = repository.save(new Board("501st Legion TODO", "Vader's Fist TODO. *Should not be updated during battle!"));
+		String eTag = getETagReturned(performGetOnWithParameter(BOARD_BY_ID_ENDPOINT, vaderFist.getId()));
+
+		ResultActions result = perform(get(BOARD_BY_ID_ENDPOINT, vaderFist.getId()).header("If-None-Match", eTag));
+
+		result.andExpect(status().isNotModified()).andExpect(header().string("ETag", eTag));
+	}
+
+	@Test
+	public void should_send_weak_etags_shared_by_every_representation_of_a_board() throws Exception {
+		Board vaderFist = repository.save(new Board("501st Legion TODO", "Vader's Fist TODO. *Should not be updated during battle!"));
+		String eTag = getETagReturned(performGetOnWithParameter(BOARD_BY_ID_ENDPOINT, vaderFist.getId()));
+
+		ResultActions result = perform(get(BOARD_BY_ID_ENDPOINT, vaderFist.getId()).param("mediaType", "cbor")
+				.param("fields", "name").header("If-None-Match", eTag));
+
+		then(eTag).isEqualTo("W/\"" + vaderFist.getVersion() + "\"");
+		result.andExpect(status().isNotModified());
+	}
+
+	@Test
+	public void should_return_UnprocessableEntity_when_trying_to_create_a_board_with_no_name() throws Exception {
+		ResultActions result = performPostOnWithBoard(BOARDS_ROOT_ENDPOINT, new Board("", ""));
+		
+		result.andExpect(status().isUnprocessableEntity()); 
+	}
+	
+	@Test
+	public void should_return_Conflict_when_trying_to_create_a_board_with_the_id_of_an_existing_board() throws Exception {
+		Board vaderFist = repository.save(new Board("501st Legion TODO", "Vader's Fist TODO. *Should not be updated during battle!"));
+		Board impostor = new Board("Team HRM", "Hypermatter Reactor Maintenance Team board");
+		impostor.setId(vaderFist.getId());
+
+		ResultActions result = performPostOnWithBoard(BOARDS_ROOT_ENDPOINT, impostor);
+
+		result.andExpect(status().isConflict());
+		then(repository.findOne(vaderFist.getId()).getName()).isEqualTo("501st Legion TODO");
+	}
+
+	@Test
+	public void should_return_saved_board() throws Exception {
+		Board teamTIE = new Board("Team TIE Wash and Wax Kanban", "Use is mandatory, Vader's orders.");
+		
+		ResultActions result = performPostOnWithBoard(BOARDS_ROOT_ENDPOINT, teamTIE);
+		teamTIE.setId(getIdReturned(result));
+		
+		assertBoardDataIsCorrect(result, teamTIE);
+		
+	}
+	
+	@Test
+	public void should_persist_saved_board() throws Exception {
+		Board teamTIE = new Board("Team TIE Wash and Wax Kanban", "Use is mandatory, Vader's orders.");
+		
+		ResultActions  resultPost = performPostOnWithBoard(BOARDS_ROOT_ENDPOINT, teamTIE);
+		teamTIE.setId(getIdReturned(resultPost));
+				
+		ResultActions resultGet = performGetOnWithParameter(BOARD_BY_ID_ENDPOINT, teamTIE.getId().toString());
+		assertBoardDataIsCorrect(resultGet, teamTIE);
+	}
+	
+	@Test
+	public void should_return_UnprocessableEntity_when_the_edited_board_does_not_exists() throws Exception {
+		Board editedTeamHRM = new Board("Team HRM TODO", "Hypermatter Reactor Maintenance Team TODO board");
+		
+		ResultActions result = performPutOnWithParameterAndBoard(BOARD_BY_ID_ENDPOINT, "501", editedTeamHRM);
+		
+		result.andExpect(status().isUnprocessableEntity()); 
+	}
+	
+	@Test
+	public void should_return_UnprocessableEntity_when_the_edition_removes_the_board_name() throws Exception {
+		String hrmTeamBoardID = repository.save(new Board("HRM Team", "Hypermatter Reactor Maintenance Team board")).getId();		
+		Board editedTeamHRM = new Board("", "Hypermatter Reactor Maintenance Team TODO board");
+
+		ResultActions result = performPutOnWithParameterAndBoard(BOARD_BY_ID_ENDPOINT, hrmTeamBoardID.toString(), editedTeamHRM);
+		
+		result.andExpect(status().isUnprocessableEntity()); 
+	}
+
+	@Test
+	public void should_return_the_edited_board() throws Exception {
+		String hrmTeamBoardID = repository.save(new Board("HRM Team", "Hypermatter Reactor Maintenance Team board")).getId();		
+		Board editedTeamHRM = new Board("Team HRM TODO", "Hypermatter Reactor Maintenance Team TODO board");
+
+		ResultActions result = performPutOnWithParameterAndBoard(BOARD_BY_ID_ENDPOINT, hrmTeamBoardID.toString(), editedTeamHRM);
+		editedTeamHRM.setId(hrmTeamBoardID);
+
+		assertBoardDataIsCorrect(result, editedTeamHRM);
+	}
+	
+	@Test
+	public void should_persist_the_editions_on_board() throws Exception {
+		String hrmTeamBoardID = repository.save(new Board("HRM Team", "Hypermatter Reactor Maintenance Team board")).getId();		
+		Board editedTeamHRM = new Board("Team HRM TODO", "Hypermatter Reactor Maintenance Team TODO board");
+
+		performPutOnWithParameterAndBoard(BOARD_BY_ID_ENDPOINT, hrmTeamBoardID.toString(), editedTeamHRM);
+		editedTeamHRM.setId(hrmTeamBoardID);
+
+		ResultActions resultGet = performGetOnWithParameter(BOARD_BY_ID_ENDPOINT, hrmTeamBoardID.toString());
+		assertBoardDataIsCorrect(resultGet, editedTeamHRM);
+	}
+
+	@Test
+	public void should_increment_the_version_of_edited_boards() throws Exception {
+		Board hrmTeam = repository.save(new Board("HRM Team", "Hypermatter Reactor Maintenance Team board"));
+		Board editedTeamHRM = new Board("Team HRM TODO", "Hypermatter Reactor Maintenance Team TODO board");
+		editedTeamHRM.setVersion(hrmTeam.getVersion());
+
+		ResultActions result = performPutOnWithParameterAndBoard(BOARD_BY_ID_ENDPOINT, hrmTeam.getId(), editedTeamHRM);
+
+		result.andExpect(status().isOk()).andExpect(jsonPath("version", is((int) (hrmTeam.getVersion() + 1))));
+	}
+
+	@Test
+	public void should_return_Conflict_when_the_edition_is_based_on_an_outdated_version() throws Exception {
+		Board hrmTeam = repository.save(new Board("HRM Team", "Hypermatter Reactor Maintenance Team board"));
+		Board editedTeamHRM = new Board("Team HRM TODO", "Hypermatter Reactor Maintenance Team TODO board");
+		editedTeamHRM.setVersion(hrmTeam.getVersion());
+		performPutOnWithParameterAndBoard(BOARD_BY_ID_ENDPOINT, hrmTeam.getId(), editedTeamHRM);
+
+		ResultActions result = performPutOnWithParameterAndBoard(BOARD_BY_ID_ENDPOINT, hrmTeam.getId(), editedTeamHRM);
+
+		result.andExpect(status().isConflict());
+	}
+
+	@Test
+	public void should_return_PreconditionFailed_when_editing_a_board_with_an_outdated_etag() throws Exception {
+		String hrmTeamBoardID = repository.save(new Board("HRM Team", "Hypermatter Reactor Maintenance Team board")).getId();
+		String eTag = getETagReturned(performGetOnWithParameter(BOARD_BY_ID_ENDPOINT, hrmTeamBoardID));
+		performPutOnWithParameterAndBoard(BOARD_BY_ID_ENDPOINT, hrmTeamBoardID, new Board("Team HRM", "Edited elsewhere"));
+
+		ResultActions result = perform(put(BOARD_BY_ID_ENDPOINT, hrmTeamBoardID).header("If-Match", eTag)
+				.contentType(contentType).content(toJson(new Board("Team HRM TODO", "Hypermatter Reactor Maintenance Team TODO board"))));
+
+		result.andExpect(status().isPreconditionFailed());
+	}
+
+	@Test
+	public void should_return_the_edited_board_when_its_etag_matches() throws Exception {
+		String hrmTeamBoardID = repository.save(new Board("HRM Team", "Hypermatter Reactor Maintenance Team board")).getId();
+		String eTag = getETagReturned(performGetOnWithParameter(BOARD_BY_ID_ENDPOINT, hrmTeamBoardID));
+		Board editedTeamHRM = new Board("Team HRM TODO", "Hypermatter Reactor Maintenance Team TODO board");
+
+		ResultActions result = perform(put(BOARD_BY_ID_ENDPOINT, hrmTeamBoardID).header("If-Match", eTag)
+				.contentType(contentType).content(toJson(editedTeamHRM)));
+		editedTeamHRM.setId(hrmTeamBoardID);
+
+		assertBoardDataIsCorrect(result, editedTeamHRM);
+	}
+
+	@Test
+	public void should_return_PreconditionFailed_when_deleting_a_board_with_an_outdated_etag() throws Exception {
+		Board vaderFist = repository.save(new Board("501st Legion TODO", "Vader's Fist TODO. *Should not be updated during battle!"));
+		String eTag = getETagReturned(performGetOnWithParameter(BOARD_BY_ID_ENDPOINT, vaderFist.getId()));
+		performPutOnWithParameterAndBoard(BOARD_BY_ID_ENDPOINT, vaderFist.getId(), new Board("501st Legion", "Edited elsewhere"));
+
+		ResultActions result = perform(delete(BOARD_BY_ID_ENDPOINT, vaderFist.getId()).header("If-Match", eTag));
+
+		result.andExpect(status().isPreconditionFailed());
+		then(repository.exists(vaderFist.getId())).isTrue();
+	}
+
+	@Test
+	public void should_return_PreconditionFailed_when_editing_or_deleting_a_missing_board_if_it_matches_any_etag() throws Exception {
+		Board editedTeamHRM = new Board("Team HRM TODO", "Hypermatter Reactor Maintenance Team TODO board");
+
+		perform(put(BOARD_BY_ID_ENDPOINT, "501").header("If-Match", "*").contentType(contentType).content(toJson(editedTeamHRM)))
+				.andExpect(status().isPreconditionFailed());
+		perform(delete(BOARD_BY_ID_ENDPOINT, "501").header("If-Match", "*")).andExpect(status().isPreconditionFailed());
+	}
+
+	@Test
+	public void should_return_UnprocessableEntity_when_the_deleted_board_does_not_exists() throws Exception {
+		ResultActions result = performDelete(BOARD_BY_ID_ENDPOINT, "501");
+		
+		result.andExpect(status().isUnprocessableEntity()); 
+	}
+	
+	@Test
+	public void should_return_deleted_board() throws Exception {
+		Board vaderFist = repository.save(new Board("501st Legion TODO", "Vader's Fist TODO. *Should not be updated during battle!"));
+
+		ResultActions result = performDelete(BOARD_BY_ID_ENDPOINT, vaderFist.getId().toString());
+
+		assertBoardDataIsCorrect(result, vaderFist);
+	}
+	
+	@Test
+	public void should_not_return_deleted_boards_in_futures_requets() throws Exception {
+		Board hrmTeam = repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
+		Board teamTIE = repository.save(new Board("Team TIE Wash and Wax Kanban", "Use is mandatory, Vader's orders."));
+		Board vaderFist = repository.save(new Board("501st Legion TODO", "Vader's Fist TODO. *Should not be updated during battle!"));
+
+		performDelete(BOARD_BY_ID_ENDPOINT, vaderFist.getId().toString());
+		
+		ResultActions result = performGetOn(BOARDS_ROOT_ENDPOINT);
+		assertNumberOfBoardsReturned(result, 2);
+		assertBoardIsPresentWithCorrectData(result, hrmTeam);
+		assertBoardIsPresentWithCorrectData(result, teamTIE);
+		
+		result = performGetOnWithParameter(BOARD_BY_ID_ENDPOINT, vaderFist.getId().toString());
+		result.andExpect(status().isNotFound());
+	}
+
+	private ResultActions perform(RequestBuilder request) throws Exception {
+		ResultActions result = mockMvc.perform(request);
+		MvcResult mvcResult = result.andReturn();
+		if (mvcResult.getRequest().isAsyncStarted() && mvcResult.getAsyncResult() != null) {
+			return mockMvc.perform(asyncDispatch(mvcResult));
+		}
+		return result;
+	}
+
+	private ResultActions performGetOn(String endpoint) throws Exception {
+		return perform(get(endpoint));
+	}
+
+	private ResultActions performStreamingGetOn(String endpoint) throws Exception {
+		return perform(get(endpoint).param("stream", "true"));
+	}
+
+	private ResultActions performGetOnWithParameter(String endpoint, String parameter) throws Exception {
+		return perform(get(endpoint, parameter));
+	}
+	
+	private ResultActions performPostOnWithBoard(String boardsRootEndpoint, Board parameter) throws Exception {
+		return perform(post(boardsRootEndpoint).contentType(contentType).content(toJson(parameter)));
+	}
+	
+	private ResultActions performPutOnWithParameterAndBoard(String boardsRootEndpoint, String parameter, Board board) throws Exception {
+		return perform(put(boardsRootEndpoint, parameter).contentType(contentType).content(toJson(board)));
+	}
+
+	private void assertNumberOfBoardsReturned(ResultActions perform, int expectedListSize) throws Exception {
+		perform.andDo(print()).andExpect(status().isOk()).andExpect(content().contentType(contentType)).andExpect(jsonPath("$", hasSize(expectedListSize)));
+	}
+	
+	private ResultActions performDelete(String endpoint, String parameter) throws Exception {
+		return perform(delete(endpoint, parameter));
+	}
+
+	private void assertBoardIsPresentWithCorrectData(ResultActions perform, Board board) throws Exception {
+		int index = getBoardIndex(perform, board);
+		perform.andDo(print()).andExpect(jsonPath("$[" + index + "].id", is(board.getId())))
+				.andExpect(jsonPath("$[" + index + "].name", is(board.getName())))
+				.andExpect(jsonPath("$[" + index + "].description", is(board.getDescription())))
+				.andExpect(jsonPath("$[" + index + "].persisted", is(true)))
+				.andExpect(jsonPath("$[" + index + "].links", hasSize(1)))
+				.andExpect(jsonPath("$[" + index + "].links[0].rel", is("self")))
+				.andExpect(jsonPath("$[" + index + "].links[0].href", is("http://localhost/boards/" + board.getId())));
+	}
+
+	private void assertBoardDataIsCorrect(ResultActions perform, Board board) throws Exception {
+		perform.andDo(print()).andExpect(jsonPath("name", is(board.getName())))
+				.andExpect(jsonPath("description", is(board.getDescription())))
+				.andExpect(jsonPath("persisted", is(true)))
+				.andExpect(jsonPath("_links.self.href", is("http://localhost/boards/" + board.getId())));
+	}
+
+	private String getIdReturned(ResultActions result) throws UnsupportedEncodingException {
+		return JsonPath.read(result.andReturn().getResponse().getContentAsString(), "$.id");
+	}
+	
+	private String getETagReturned(ResultActions result) {
+		return result.andReturn().getResponse().getHeader("ETag");
+	}
+
+	private String getLinkReturned(ResultActions result, String rel) {
+		for (String link : result.andReturn().getResponse().getHeaders("Link")) {
+			if (link.endsWith("rel=\"" + rel + "\"")) {
+				return link.substring(link.indexOf('<') + 1, link.indexOf('>'));
+			}
+		}
+		return null;
+	}
+
+	private int getBoardIndex(ResultActions perform, Board board) throws UnsupportedEncodingException {
+		List<String> ids = JsonPath.read(perform.andReturn().getResponse().getContentAsString(), "$.[*].id");
+		int index = 0;
+		for (String id : ids) {
+			if (id.equals(board.getId())) return index;
+			index++;
+		}
+		return -1;
+	}
+	
+	@SuppressWarnings("unchecked")
+	private String toJson(Object o) throws IOException {
+        MockHttpOutputMessage mockHttpOutputMessage = new MockHttpOutputMessage();
+        this.mappingJackson2HttpMessageConverter.write(o, MediaType.APPLICATION_JSON, mockHttpOutputMessage);
+        return mockHttpOutputMessage.getBodyAsString();
+    }
+
+}
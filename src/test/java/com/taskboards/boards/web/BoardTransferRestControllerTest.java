@@ -0,0 +1,137 @@
+package com.taskboards.boards.web;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.context.web.WebAppConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.taskboards.boards.BoardsApplication;
+import com.taskboards.boards.domain.Board;
+import com.taskboards.boards.domain.BoardRepository;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = BoardsApplication.class, properties = "spring.cloud.config.enabled=false")
+@WebAppConfiguration
+@ActiveProfiles("test")
+public class BoardTransferRestControllerTest {
+
+	private static final String EXPORT_ENDPOINT = "/boards/export";
+
+	private static final String IMPORT_ENDPOINT = "/boards/import";
+
+	private MockMvc mockMvc;
+
+	@Autowired
+	private BoardRepository repository;
+
+	@Autowired
+	private WebApplicationContext applicationContext;
+
+	@Before
+	public void setUp() {
+		this.mockMvc = MockMvcBuilders.webAppContextSetup(applicationContext).build();
+		this.repository.deleteAll();
+	}
+
+	@Test
+	public void should_export_every_board_as_one_json_line() throws Exception {
+		Board hrmTeam = repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
+		Board vaderFist = repository.save(new Board("501st Legion TODO", "Vader's Fist TODO. *Should not be updated during battle!"));
+
+		String[] lines = export().split("\n");
+
+		then(lines).hasSize(2);
+		then(lines[0]).startsWith("{\"id\":\"" + hrmTeam.getId() + "\",\"name\":\"Team HRM\"");
+		then(lines[1]).startsWith("{\"id\":\"" + vaderFist.getId() + "\",\"name\":\"501st Legion TODO\"");
+	}
+
+	@Test
+	public void should_restore_exported_boards_with_their_ids_and_versions() throws Exception {
+		Board hrmTeam = repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
+		hrmTeam.setDescription("Hypermatter Reactor Maintenance");
+		hrmTeam = repository.save(hrmTeam);
+		repository.save(new Board("501st Legion TODO", "Vader's Fist TODO. *Should not be updated during battle!"));
+		String exported = export();
+		repository.deleteAll();
+
+		ResultActions result = performImport(exported);
+
+		result.andDo(print()).andExpect(status().isOk())
+				.andExpect(jsonPath("imported", is(2)))
+				.andExpect(jsonPath("rejected", is(0)))
+				.andExpect(jsonPath("errors", hasSize(0)));
+		then(repository.count()).isEqualTo(2);
+		Board restored = repository.findOne(hrmTeam.getId());
+		then(restored.getDescription()).isEqualTo("Hypermatter Reactor Maintenance");
+		then(restored.getVersion()).isEqualTo(hrmTeam.getVersion());
+		then(repository.findByNameStartsWithIgnoreCase("team h")).hasSize(1);
+	}
+
+	@Test
+	public void should_change_the_collection_etag_when_boards_are_imported_over_themselves() throws Exception {
+		repository.save(new Board("Team HRM", "Hypermatter Reactor Maintenance Team board"));
+		repository.save(new Board("501st Legion TODO", "Vader's Fist TODO. *Should not be updated during battle!"));
+		String exported = export();
+		String eTag = mockMvc.perform(get("/boards")).andReturn().getResponse().getHeader("ETag");
+
+		performImport(exported).andExpect(status().isOk());
+
+		mockMvc.perform(get("/boards").header("If-None-Match", eTag)).andExpect(status().isOk());
+	}
+
+	@Test
+	public void should_import_the_valid_lines_and_report_the_invalid_ones() throws Exception {
+		ResultActions result = performImport("{\"name\":\"Team HRM\",\"description\":\"\"}\n"
+				+ "{\"name\":\"\",\"description\":\"No name\"}\n"
+				+ "{\"name\":\"Team TIE\",\"description\":\"\"}\n");
+
+		result.andExpect(status().isOk())
+				.andExpect(jsonPath("imported", is(2)))
+				.andExpect(jsonPath("rejected", is(1)))
+				.andExpect(jsonPath("errors[0].line", is(2)))
+				.andExpect(jsonPath("errors[0].error", is("name may not be empty")));
+		then(repository.findByNameStartsWithIgnoreCase("team")).extracting("name").containsExactly("Team HRM", "Team TIE");
+	}
+
+	@Test
+	public void should_return_BadRequest_and_stop_at_a_malformed_line() throws Exception {
+		ResultActions result = performImport("{\"name\":\"Team HRM\",\"description\":\"\"}\n"
+				+ "{\"name\":\"Team TIE\",\n"
+				+ "{\"name\":\"501st Legion TODO\",\"description\":\"\"}\n");
+
+		result.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("imported", is(1)))
+				.andExpect(jsonPath("errors[0].line", is(3)));
+		then(repository.count()).isEqualTo(1);
+	}
+
+	private String export() throws Exception {
+		ResultActions result = mockMvc.perform(get(EXPORT_ENDPOINT))
+				.andExpect(status().isOk())
+				.andExpect(content().contentType(BoardBatchRestController.APPLICATION_NDJSON_VALUE));
+		result.andReturn().getAsyncResult();
+		return result.andReturn().getResponse().getContentAsString();
+	}
+
+	private ResultActions performImport(String lines) throws Exception {
+		return mockMvc.perform(post(IMPORT_ENDPOINT).contentType(BoardBatchRestController.APPLICATION_NDJSON_VALUE).content(lines));
+	}
+}
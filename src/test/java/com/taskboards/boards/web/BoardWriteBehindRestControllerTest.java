@@ -0,0 +1,75 @@
+package com.taskboards.boards.web;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.context.web.WebAppConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.jayway.jsonpath.JsonPath;
+import com.taskboards.boards.BoardsApplication;
+import com.taskboards.boards.domain.Board;
+import com.taskboards.boards.domain.BoardRepository;
+
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = BoardsApplication.class, properties = { "spring.cloud.config.enabled=false",
+		"boards.write-behind.enabled=true", "boards.write-behind.flush-interval-millis=20" })
+@WebAppConfiguration
+@ActiveProfiles("test")
+public class BoardWriteBehindRestControllerTest {
+
+	private MockMvc mockMvc;
+
+	@Autowired
+	private BoardRepository repository;
+
+	@Autowired
+	private WebApplicationContext applicationContext;
+
+	@Before
+	public void setUp() {
+		this.mockMvc = MockMvcBuilders.webAppContextSetup(applicationContext).build();
+		this.repository.deleteAll();
+	}
+
+	@Test
+	public void should_return_Accepted_with_the_assigned_id_and_write_the_board_afterwards() throws Exception {
+		ResultActions result = mockMvc.perform(post("/boards").contentType(MediaType.APPLICATION_JSON)
+				.content("{\"name\":\"Team TIE Wash and Wax Kanban\",\"description\":\"Use is mandatory, Vader's orders.\"}"));
+
+		result.andExpect(status().isAccepted())
+				.andExpect(jsonPath("name", is("Team TIE Wash and Wax Kanban")))
+				.andExpect(jsonPath("version", is(0)))
+				.andExpect(header().string("ETag", "W/\"0\""));
+		String id = JsonPath.read(result.andReturn().getResponse().getContentAsString(), "$.id");
+		result.andExpect(header().string("Location", "http://localhost/boards/" + id));
+		Board written = null;
+		for (int attempt = 0; attempt < 100 && written == null; attempt++) {
+			Thread.sleep(50);
+			written = repository.findOne(id);
+		}
+		then(written).isNotNull();
+		then(written.getDescription()).isEqualTo("Use is mandatory, Vader's orders.");
+	}
+
+	@Test
+	public void should_validate_boards_before_accepting_them() throws Exception {
+		mockMvc.perform(post("/boards").contentType(MediaType.APPLICATION_JSON).content("{\"name\":\"\",\"description\":\"\"}"))
+				.andExpect(status().isUnprocessableEntity());
+	}
+}
@@ -0,0 +1,88 @@
+package com.taskboards.boards.web.ui;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.data.domain.Sort;
+
+import com.taskboards.boards.domain.Board;
+import com.taskboards.boards.domain.BoardFields;
+import com.taskboards.boards.domain.BoardRepository;
+import com.vaadin.data.provider.Query;
+import com.vaadin.data.provider.QuerySortOrder;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BoardDataProviderTest {
+
+	private static final BoardFields COLUMNS = BoardFields.of("id", "name", "description");
+
+	@Mock BoardRepository repository;
+
+	@Test
+	public void shouldFilterNarrowerPrefixesInMemory() {
+		given(repository.findSlice(eq("pro"), eq(0), eq(3), any(Sort.class), eq(COLUMNS)))
+				.willReturn(Arrays.asList(board("1", "Project"), board("2", "Profile")));
+		BoardDataProvider dataProvider = new BoardDataProvider(repository, COLUMNS, 2);
+
+		then(dataProvider.size(new Query<>("pro"))).isEqualTo(2);
+		then(dataProvider.size(new Query<>("proj"))).isEqualTo(1);
+		then(fetch(dataProvider, "PRO", QuerySortOrder.asc("name").build())).containsExactly("Profile", "Project");
+		then(fetch(dataProvider, "proj", QuerySortOrder.asc("name").build())).containsExactly("Project");
+
+		verify(repository, times(1)).findSlice(anyString(), anyInt(), anyInt(), any(Sort.class), any(BoardFields.class));
+		verify(repository, times(0)).countByNamePrefix(anyString());
+	}
+
+	@Test
+	public void shouldQueryMongoWhenTheMatchesDoNotFitTheCacheOrTheCacheIsInvalidated() {
+		given(repository.findSlice(eq("pro"), eq(0), eq(2), any(Sort.class), eq(COLUMNS)))
+				.willReturn(Arrays.asList(board("1", "Project"), board("2", "Profile")));
+		given(repository.countByNamePrefix("pro")).willReturn(5L);
+		BoardDataProvider dataProvider = new BoardDataProvider(repository, COLUMNS, 1);
+
+		then(dataProvider.size(new Query<>("pro"))).isEqualTo(5);
+		dataProvider.invalidate();
+		then(dataProvider.size(new Query<>("pro"))).isEqualTo(5);
+
+		verify(repository, times(2)).countByNamePrefix("pro");
+	}
+
+	@Test
+	public void shouldCountWithoutProbingAgainWhileThePrefixIsKnownToOverflowTheCache() {
+		given(repository.findSlice(eq("pro"), eq(0), eq(2), any(Sort.class), eq(COLUMNS)))
+				.willReturn(Arrays.asList(board("1", "Project"), board("2", "Profile")));
+		given(repository.countByNamePrefix(anyString())).willReturn(5L);
+		BoardDataProvider dataProvider = new BoardDataProvider(repository, COLUMNS, 1);
+
+		then(dataProvider.size(new Query<>("pro"))).isEqualTo(5);
+		then(dataProvider.size(new Query<>("PRO"))).isEqualTo(5);
+		then(dataProvider.size(new Query<>("pr"))).isEqualTo(5);
+
+		verify(repository, times(1)).findSlice(anyString(), anyInt(), anyInt(), any(Sort.class), any(BoardFields.class));
+		verify(repository, times(3)).countByNamePrefix(anyString());
+	}
+
+	private static List<String> fetch(BoardDataProvider dataProvider, String filter, List<QuerySortOrder> sortOrders) {
+		return dataProvider.fetch(new Query<>(0, 10, sortOrders, null, filter)).map(Board::getName).collect(Collectors.toList());
+	}
+
+	private static Board board(String id, String name) {
+		Board board = new Board(name, "");
+		board.setId(id);
+		return board;
+	}
+}
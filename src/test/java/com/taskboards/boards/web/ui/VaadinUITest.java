@@ -5,6 +5,10 @@ import static org.assertj.core.api.BDDAssertions.then;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import javax.annotation.PostConstruct;
 
@@ -19,10 +23,16 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.test.context.junit4.SpringRunner;
 
 import com.taskboards.boards.BoardsApplication;
+import com.taskboards.boards.BoardsProperties;
 import com.taskboards.boards.domain.Board;
+import com.taskboards.boards.domain.BoardChange;
 import com.taskboards.boards.domain.BoardRepository;
-import com.vaadin.data.provider.ListDataProvider;
+import com.vaadin.data.provider.DataChangeEvent;
+import com.vaadin.data.provider.DataChangeEvent.DataRefreshEvent;
+import com.vaadin.data.provider.Query;
+import com.vaadin.data.provider.QuerySortOrder;
 import com.vaadin.server.VaadinRequest;
+import com.vaadin.shared.Registration;
 import com.vaadin.spring.boot.VaadinAutoConfiguration;
 import com.vaadin.ui.Button;
 
@@ -33,6 +43,12 @@ public class VaadinUITest {
 	@Autowired
 	BoardRepository repository;
 
+	@Autowired
+	BoardChangeBroadcaster broadcaster;
+
+	@Autowired
+	BoardsProperties properties;
+
 	VaadinRequest vaadinRequest = Mockito.mock(VaadinRequest.class);
 
 	BoardEditor editor;
@@ -42,7 +58,7 @@ public class VaadinUITest {
 	@Before
 	public void setup() {
 		this.editor = new BoardEditor(this.repository);
-		this.vaadinUI = new VaadinUI(this.repository, editor);
+		this.vaadinUI = new VaadinUI(this.repository, editor, broadcaster, properties);
 	}
 
 	@Test
@@ -75,6 +91,62 @@ public class VaadinUITest {
 		then(getBoardsInGrid().get(getBoardsInGrid().size() - 1)).extracting("name", "description").containsExactly("A board", "A description");
 	}
 
+	@Test
+	public void shouldFetchOnlyTheRequestedRowsInTheRequestedOrder() {
+		this.vaadinUI.init(this.vaadinRequest);
+		List<QuerySortOrder> byName = QuerySortOrder.desc("name").build();
+		List<Board> allBoards = fetchBoardsInGrid(0, Integer.MAX_VALUE, byName);
+
+		List<Board> window = fetchBoardsInGrid(1, 3, byName);
+
+		then(window).extracting("id").containsExactlyElementsOf(
+				allBoards.subList(1, 4).stream().map(Board::getId).collect(Collectors.toList()));
+		then(vaadinUI.grid.getDataProvider().size(new Query<>())).isEqualTo(allBoards.size());
+	}
+
+	@Test
+	public void shouldBroadcastRepositoryWritesToRegisteredListeners() throws InterruptedException {
+		BlockingQueue<BoardChange> changes = new LinkedBlockingQueue<>();
+		Registration registration = broadcaster.register(changes::add);
+		try {
+			Board board = this.repository.save(new Board("Broadcast board", "Pushed to every session"));
+			this.repository.replace(board.getId(), new Board("Broadcast board", "Edited"));
+			this.repository.delete(board.getId());
+
+			then(changes.poll(5, TimeUnit.SECONDS)).extracting("type", "id").containsExactly(BoardChange.Type.CREATED, board.getId());
+			then(changes.poll(5, TimeUnit.SECONDS)).extracting("type", "id").containsExactly(BoardChange.Type.UPDATED, board.getId());
+			then(changes.poll(5, TimeUnit.SECONDS)).extracting("type", "id").containsExactly(BoardChange.Type.REMOVED, board.getId());
+		} finally {
+			registration.remove();
+		}
+	}
+
+	@Test
+	public void shouldRefreshTheWholeGridWhenABoardIsRenamedIntoTheFilter() throws InterruptedException {
+		this.vaadinUI.init(this.vaadinRequest);
+		Board board = this.repository.save(new Board("Unlisted board", "Renamed later"));
+		vaadinUI.filter.setValue("Renamed");
+		then(getBoardsInGrid()).isEmpty();
+		BlockingQueue<BoardChange> changes = new LinkedBlockingQueue<>();
+		List<DataChangeEvent<Board>> gridEvents = new ArrayList<>();
+		vaadinUI.grid.getDataProvider().addDataProviderListener(gridEvents::add);
+		Registration registration = broadcaster.register(changes::add);
+		try {
+			this.repository.replace(board.getId(), new Board("Renamed board", "Renamed later"));
+			BoardChange change = changes.poll(5, TimeUnit.SECONDS);
+
+			vaadinUI.applyBoardChange(change);
+
+			then(change.getPreviousName()).isEqualTo("Unlisted board");
+			then(gridEvents).hasSize(1);
+			then(gridEvents.get(0)).isNotInstanceOf(DataRefreshEvent.class);
+			then(getBoardsInGrid()).extracting("id").containsExactly(board.getId());
+		} finally {
+			registration.remove();
+			this.repository.delete(board.getId());
+		}
+	}
+
 	@Test
 	public void shouldInitializeWithInvisibleEditor() {
 		this.vaadinUI.init(this.vaadinRequest);
@@ -108,10 +180,12 @@ public class VaadinUITest {
 		return this.editor.getFormConfigurator().getComponents().save;
 	}
 	
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	private List<Board> getBoardsInGrid() {
-		ListDataProvider<Board> ldp = (ListDataProvider) vaadinUI.grid.getDataProvider();
-		return new ArrayList<>(ldp.getItems());
+		return vaadinUI.grid.getDataProvider().fetch(new Query<>()).collect(Collectors.toList());
+	}
+
+	private List<Board> fetchBoardsInGrid(int offset, int limit, List<QuerySortOrder> sortOrders) {
+		return vaadinUI.grid.getDataProvider().fetch(new Query<>(offset, limit, sortOrders, null, null)).collect(Collectors.toList());
 	}
 
 	@Configuration